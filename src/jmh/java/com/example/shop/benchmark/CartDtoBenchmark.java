@@ -0,0 +1,43 @@
+package com.example.shop.benchmark;
+
+import com.example.shop.domain.cart.dto.CartDto;
+import com.example.shop.domain.product.dto.ProductDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/** 장바구니 화면 응답(항목별 금액 + 합계)과 헤더 배지용 요약 */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CartDtoBenchmark {
+
+    @Param({"3", "30"})
+    private int itemCount;
+
+    private List<ProductDto.Response> products;
+    private Map<Long, Integer> quantities;
+    private CartDto.Response cart;
+
+    @Setup
+    public void setUp() {
+        products = Fixtures.productResponses(itemCount);
+        quantities = Fixtures.quantities(itemCount);
+        cart = CartDto.Response.of(products, quantities);
+    }
+
+    @Benchmark
+    public CartDto.Response response() {
+        return CartDto.Response.of(products, quantities);
+    }
+
+    @Benchmark
+    public CartDto.Summary summary() {
+        return CartDto.Summary.of(cart, 1L);
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.shop.benchmark;
+
+import com.example.shop.domain.cart.dto.CartDto;
+import com.example.shop.domain.cart.service.CartService;
+import com.example.shop.domain.member.service.MemberService;
+import com.example.shop.domain.product.service.ProductService;
+import com.example.shop.support.TestFixtures;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 장바구니 조작 처리량: DB에 바로 쓰는 jpa 모드와 메모리에 모았다가 주기적으로 반영하는 memory 모드 비교.
+ * 스레드마다 다른 회원이 상품 10개가 담긴 장바구니를 CartService로 조작한다 (removeAndAdd는 조작 두 번).
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="CartStoreBenchmark"
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(8)
+@State(Scope.Benchmark)
+public class CartStoreBenchmark {
+
+    private static final int MEMBERS = 64;
+    private static final int CART_ITEMS = 10;
+
+    @Param({"jpa", "memory"})
+    private String store;
+
+    private ConfigurableApplicationContext context;
+    private CartService cartService;
+    private List<Long> memberIds;
+    private List<Long> productIds;
+    private final AtomicInteger nextShopper = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        context = ShopContext.start("--shop.cart.store=" + store);
+        cartService = context.getBean(CartService.class);
+        MemberService memberService = context.getBean(MemberService.class);
+        ProductService productService = context.getBean(ProductService.class);
+        memberIds = Stream.generate(() -> TestFixtures.newMember(memberService)).limit(MEMBERS).toList();
+        productIds = Stream.generate(() -> TestFixtures.newProduct(productService, 100_000_000)).limit(CART_ITEMS).toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @State(Scope.Thread)
+    public static class Shopper {
+
+        private Long memberId;
+        private SplittableRandom random;
+
+        /** 모든 상품을 한 개씩 담아 둔 장바구니에서 시작 */
+        @Setup
+        public void setUp(CartStoreBenchmark benchmark) {
+            int index = benchmark.nextShopper.getAndIncrement();
+            memberId = benchmark.memberIds.get(index % MEMBERS);
+            random = new SplittableRandom(index);
+            for (Long productId : benchmark.productIds) {
+                if (!benchmark.cartService.getQuantities(memberId).containsKey(productId)) {
+                    benchmark.cartService.addItem(memberId, new CartDto.AddRequest(productId, 1));
+                }
+            }
+        }
+
+        Long product(List<Long> productIds) {
+            return productIds.get(random.nextInt(productIds.size()));
+        }
+    }
+
+    @Benchmark
+    public void add(Shopper shopper) {
+        cartService.addItem(shopper.memberId, new CartDto.AddRequest(shopper.product(productIds), 1));
+    }
+
+    @Benchmark
+    public void updateQuantity(Shopper shopper) {
+        cartService.updateItemQuantity(shopper.memberId, shopper.product(productIds),
+                new CartDto.UpdateRequest(1 + shopper.random.nextInt(5)));
+    }
+
+    @Benchmark
+    public void removeAndAdd(Shopper shopper) {
+        Long productId = shopper.product(productIds);
+        cartService.removeItem(shopper.memberId, productId);
+        cartService.addItem(shopper.memberId, new CartDto.AddRequest(productId, 1));
+    }
+
+    @Benchmark
+    public Map<Long, Integer> getQuantities(Shopper shopper) {
+        return cartService.getQuantities(shopper.memberId);
+    }
+}
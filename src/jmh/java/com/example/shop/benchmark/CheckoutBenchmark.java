@@ -0,0 +1,93 @@
+package com.example.shop.benchmark;
+
+import com.example.shop.config.sql.SqlScope;
+import com.example.shop.domain.cart.dto.CartDto;
+import com.example.shop.domain.cart.service.CartService;
+import com.example.shop.domain.member.service.MemberService;
+import com.example.shop.domain.order.entity.Order;
+import com.example.shop.domain.order.service.OrderService;
+import com.example.shop.domain.product.service.ProductService;
+import com.example.shop.support.TestFixtures;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 장바구니 주문 응답 시간 vs 장바구니 상품 수.
+ * jdbcBatchSize=50은 현재 설정(시퀀스 ID + JDBC 배치 INSERT), 1은 배치 없이 행마다 INSERT하는 변경 전과 같은 왕복 수.
+ * 주문 한 건의 평균 SQL 문 수(배치는 한 문으로 셈)를 측정 종료 시 함께 출력한다.
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="CheckoutBenchmark"
+ * </pre>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CheckoutBenchmark {
+
+    /** 주문 직후 장바구니 비우기는 아웃박스로 처리되므로 회원을 돌려 가며 쓴다 */
+    private static final int MEMBERS = 20;
+
+    @Param({"1", "5", "20"})
+    private int cartSize;
+
+    @Param({"50", "1"})
+    private int jdbcBatchSize;
+
+    private ConfigurableApplicationContext context;
+    private CartService cartService;
+    private OrderService orderService;
+    private List<Long> memberIds;
+    private List<Long> productIds;
+    private int next;
+    private Long memberId;
+    private long checkouts;
+    private long statements;
+
+    @Setup
+    public void setUp() {
+        context = ShopContext.start("--spring.jpa.properties.hibernate.jdbc.batch_size=" + jdbcBatchSize);
+        cartService = context.getBean(CartService.class);
+        orderService = context.getBean(OrderService.class);
+        MemberService memberService = context.getBean(MemberService.class);
+        ProductService productService = context.getBean(ProductService.class);
+        memberIds = Stream.generate(() -> TestFixtures.newMember(memberService)).limit(MEMBERS).toList();
+        productIds = Stream.generate(() -> TestFixtures.newProduct(productService, 100_000_000)).limit(cartSize).toList();
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.printf("%n장바구니 %d개, JDBC 배치 %d: 주문당 SQL 문 %.1f개%n",
+                cartSize, jdbcBatchSize, checkouts == 0 ? 0 : (double) statements / checkouts);
+        context.close();
+    }
+
+    /** 이전 주문의 장바구니 비우기가 끝난 회원의 장바구니를 채운다 (측정 제외) */
+    @Setup(Level.Invocation)
+    public void fillCart() throws InterruptedException {
+        memberId = memberIds.get(next++ % MEMBERS);
+        while (!cartService.getQuantities(memberId).isEmpty()) {
+            Thread.sleep(1);
+        }
+        for (Long productId : productIds) {
+            cartService.addItem(memberId, new CartDto.AddRequest(productId, 1));
+        }
+    }
+
+    @Benchmark
+    public Order checkout() {
+        try (SqlScope scope = SqlScope.open("CheckoutBenchmark", Integer.MAX_VALUE)) {
+            Order order = orderService.createFromCart(memberId, TestFixtures.cartOrder());
+            checkouts++;
+            statements += scope.getStatementCount();
+            return order;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.shop.benchmark;
+
+import com.example.shop.domain.delivery.entity.Delivery;
+import com.example.shop.domain.member.entity.Member;
+import com.example.shop.domain.order.entity.Order;
+import com.example.shop.domain.order.entity.OrderItem;
+import com.example.shop.domain.order.entity.Payment;
+import com.example.shop.domain.product.dto.ProductDto;
+import com.example.shop.domain.product.entity.Product;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/** 벤치마크용 엔티티/DTO: DB 없이 영속 상태와 같은 모양(ID, 연관관계, 시각)으로 만든다 */
+public final class Fixtures {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 15, 10, 30);
+
+    private Fixtures() {
+    }
+
+    public static Product product(long id) {
+        Product product = Product.builder()
+                .id(id)
+                .name("상품 " + id)
+                .description("벤치마크용 상품 설명 " + id)
+                .price(10_000 + (int) (id % 50) * 1_000)
+                .stockQuantity(100)
+                .category("카테고리" + id % 8)
+                .imageUrl("/images/products/" + id + ".jpg")
+                .build();
+        product.setCreatedAt(NOW);
+        return product;
+    }
+
+    public static List<ProductDto.Response> productResponses(int count) {
+        List<ProductDto.Response> products = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            products.add(ProductDto.Response.from(product(id)));
+        }
+        return products;
+    }
+
+    public static Map<Long, Integer> quantities(int count) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        for (long id = 1; id <= count; id++) {
+            quantities.put(id, (int) (id % 3) + 1);
+        }
+        return quantities;
+    }
+
+    /** 결제/배송까지 갖춘 결제완료 주문, 상품 ID는 역순으로 담아 정렬 비용이 드러나게 한다 */
+    public static Order order(int itemCount) {
+        Member member = Member.builder().id(1L).email("user@example.com").name("홍길동").role(Member.Role.ROLE_USER).build();
+        Order order = Order.builder()
+                .id(1L)
+                .member(member)
+                .orderNumber("24011510300000000001")
+                .status(Order.OrderStatus.PAID)
+                .orderedAt(NOW)
+                .build();
+
+        int total = 0;
+        for (int i = itemCount; i >= 1; i--) {
+            Product product = product(i);
+            OrderItem item = OrderItem.builder()
+                    .id((long) i)
+                    .product(product)
+                    .quantity(i % 3 + 1)
+                    .price(product.getPrice())
+                    .build();
+            order.addOrderItem(item);
+            total += item.getTotalPrice();
+        }
+        order.setTotalAmount(total);
+
+        order.setPayment(Payment.builder()
+                .id(1L)
+                .paymentMethod(Payment.PaymentMethod.CREDIT_CARD)
+                .amount(total)
+                .status(Payment.PaymentStatus.COMPLETED)
+                .paidAt(NOW)
+                .build());
+        order.setDelivery(Delivery.builder()
+                .id(1L)
+                .receiverName("홍길동")
+                .receiverPhone("010-1234-5678")
+                .address("서울시 강남구 테헤란로 1")
+                .status(Delivery.DeliveryStatus.PREPARING)
+                .build());
+        return order;
+    }
+}
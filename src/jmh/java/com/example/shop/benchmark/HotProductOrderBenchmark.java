@@ -0,0 +1,98 @@
+package com.example.shop.benchmark;
+
+import com.example.shop.domain.member.service.MemberService;
+import com.example.shop.domain.order.service.OrderService;
+import com.example.shop.domain.order.service.OrderTransactionRetry;
+import com.example.shop.domain.product.service.ProductService;
+import com.example.shop.support.TestFixtures;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 인기 상품 동시 주문: 구매자 200명(스레드)이 바로 주문을 반복할 때의 초당 주문 수.
+ * products=1은 모든 주문이 한 상품 행의 조건부 UPDATE에 몰리는 경우, 200은 구매자마다 다른 상품을 고르는 비교 기준.
+ * 컨트롤러와 같이 OrderTransactionRetry로 감싸 잠금 대기 초과 시 트랜잭션째 재시도하며, 종료 시 초과 판매가 없는지 확인한다.
+ *
+ * <pre>
+ * mvn -Pjmh test-compile exec:exec -Djmh.args="HotProductOrder"
+ * </pre>
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(200)
+@State(Scope.Benchmark)
+public class HotProductOrderBenchmark {
+
+    private static final int BUYERS = 200;
+    private static final int STOCK = 100_000_000;
+
+    @Param({"1", "200"})
+    private int products;
+
+    private ConfigurableApplicationContext context;
+    private OrderService orderService;
+    private OrderTransactionRetry orderTransactionRetry;
+    private List<Long> memberIds;
+    private List<Long> productIds;
+    private final AtomicInteger nextBuyer = new AtomicInteger();
+
+    @Setup
+    public void setUp() {
+        context = ShopContext.start();
+        orderService = context.getBean(OrderService.class);
+        orderTransactionRetry = context.getBean(OrderTransactionRetry.class);
+        MemberService memberService = context.getBean(MemberService.class);
+        ProductService productService = context.getBean(ProductService.class);
+        memberIds = Stream.generate(() -> TestFixtures.newMember(memberService)).limit(BUYERS).toList();
+        productIds = Stream.generate(() -> TestFixtures.newProduct(productService, STOCK)).limit(products).toList();
+    }
+
+    /** 남은 재고 + 주문 수량이 처음 재고와 같아야 한다 (초과 판매, 차감 누락 없음) */
+    @TearDown
+    public void verifyAndClose() {
+        JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+        try {
+            for (Long productId : productIds) {
+                Long total = jdbcTemplate.queryForObject(
+                        "SELECT p.stock_quantity + COALESCE((SELECT SUM(oi.quantity) FROM order_item oi WHERE oi.product_id = p.id), 0) "
+                                + "FROM product p WHERE p.id = ?", Long.class, productId);
+                if (total == null || total != STOCK) {
+                    throw new IllegalStateException("재고 불일치: productId=" + productId + ", 재고+주문=" + total);
+                }
+            }
+        } finally {
+            context.close();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Buyer {
+
+        private Long memberId;
+        private SplittableRandom random;
+
+        @Setup
+        public void setUp(HotProductOrderBenchmark benchmark) {
+            int index = benchmark.nextBuyer.getAndIncrement();
+            memberId = benchmark.memberIds.get(index % BUYERS);
+            random = new SplittableRandom(index);
+        }
+    }
+
+    @Benchmark
+    public Long order(Buyer buyer) {
+        Long productId = productIds.get(buyer.random.nextInt(productIds.size()));
+        return orderTransactionRetry.execute(
+                () -> orderService.createDirectOrder(buyer.memberId, TestFixtures.directOrder(productId, 1)).getId());
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.shop.benchmark;
+
+import com.example.shop.domain.order.entity.Order;
+import com.example.shop.domain.product.service.StockService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 대량 주문 취소의 재고 복원 준비: 상태 전이, 상품별 수량 집계, ID 오름차순 정렬과 배치 인자 구성, 재고 변경 이벤트.
+ * JDBC 배치 실행은 즉시 반환하는 JdbcTemplate으로 대신하여 CPU 비용만 잰다.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderCancelBenchmark {
+
+    @Param({"10", "500"})
+    private int itemCount;
+
+    private Order order;
+    private StockService stockService;
+
+    @Setup
+    public void setUp() {
+        order = Fixtures.order(itemCount);
+        stockService = new StockService(new NoOpJdbcTemplate(), event -> { });
+    }
+
+    @Benchmark
+    public Order cancel() {
+        order.setStatus(Order.OrderStatus.PAID);
+        order.cancel();
+        stockService.increaseAll(order.quantitiesByProduct());
+        return order;
+    }
+
+    private static class NoOpJdbcTemplate extends JdbcTemplate {
+
+        @Override
+        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+            int[] updated = new int[batchArgs.size()];
+            Arrays.fill(updated, 1);
+            return updated;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.shop.benchmark;
+
+import com.example.shop.domain.order.dto.OrderDto;
+import com.example.shop.domain.order.entity.Order;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** 주문 상세/내역(Response)과 관리자 목록(AdminListResponse) 변환 */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderDtoBenchmark {
+
+    @Param({"3", "50"})
+    private int itemCount;
+
+    private Order order;
+
+    /** 관리자 주문 목록 한 페이지 */
+    private List<Order> page;
+
+    @Setup
+    public void setUp() {
+        order = Fixtures.order(itemCount);
+        page = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            page.add(Fixtures.order(itemCount));
+        }
+    }
+
+    @Benchmark
+    public OrderDto.Response response() {
+        return OrderDto.Response.from(order);
+    }
+
+    @Benchmark
+    public List<OrderDto.AdminListResponse> adminListPage() {
+        return page.stream().map(OrderDto.AdminListResponse::from).toList();
+    }
+}
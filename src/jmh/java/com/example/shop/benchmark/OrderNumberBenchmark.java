@@ -0,0 +1,42 @@
+package com.example.shop.benchmark;
+
+import com.example.shop.domain.order.service.TimeBasedOrderNumberGenerator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/** 주문번호 생성: 단일 스레드와 4스레드 경합(CAS 재시도 포함), 이전 방식(UUID 앞 8자리)과 비교 */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class OrderNumberBenchmark {
+
+    private final TimeBasedOrderNumberGenerator generator = new TimeBasedOrderNumberGenerator(1);
+
+    @Benchmark
+    public String generate() {
+        return generator.generate();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String generateContended() {
+        return generator.generate();
+    }
+
+    /** 이전 Order.onCreate 방식: 매번 SecureRandom */
+    @Benchmark
+    public String uuidPrefix() {
+        return UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String uuidPrefixContended() {
+        return UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+    }
+}
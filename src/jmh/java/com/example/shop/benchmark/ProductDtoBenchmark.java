@@ -0,0 +1,41 @@
+package com.example.shop.benchmark;
+
+import com.example.shop.domain.product.dto.ProductDto;
+import com.example.shop.domain.product.entity.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/** 상품 응답 변환: 단건(상세/캐시 적재)과 목록 한 페이지(12건) */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProductDtoBenchmark {
+
+    private Product product;
+    private List<Product> page;
+
+    @Setup
+    public void setUp() {
+        product = Fixtures.product(1);
+        page = new ArrayList<>();
+        for (long id = 1; id <= 12; id++) {
+            page.add(Fixtures.product(id));
+        }
+    }
+
+    @Benchmark
+    public ProductDto.Response response() {
+        return ProductDto.Response.from(product);
+    }
+
+    @Benchmark
+    public List<ProductDto.Response> listPage() {
+        return page.stream().map(ProductDto.Response::from).toList();
+    }
+}
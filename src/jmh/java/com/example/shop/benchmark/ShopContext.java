@@ -0,0 +1,30 @@
+package com.example.shop.benchmark;
+
+import com.example.shop.ShopApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.stream.Stream;
+
+/**
+ * 애플리케이션 전체를 띄우는 벤치마크용 컨텍스트: 포크마다 새 인메모리 H2(local 프로필), 임의 포트, SQL 로그 끔.
+ * 회원/상품/주문 요청은 통합 테스트의 {@link com.example.shop.support.TestFixtures}를 그대로 쓴다.
+ */
+public final class ShopContext {
+
+    private static final String[] DEFAULT_ARGS = {
+            "--server.port=0",
+            "--logging.level.root=warn",
+            "--logging.level.org.hibernate.SQL=warn",
+            "--logging.level.org.hibernate.orm.jdbc.bind=warn"
+    };
+
+    private ShopContext() {
+    }
+
+    /** 추가 설정은 --name=value 형식 (기본 설정보다 우선) */
+    public static ConfigurableApplicationContext start(String... args) {
+        return new SpringApplicationBuilder(ShopApplication.class)
+                .run(Stream.concat(Stream.of(DEFAULT_ARGS), Stream.of(args)).toArray(String[]::new));
+    }
+}
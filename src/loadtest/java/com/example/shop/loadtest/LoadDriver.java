@@ -0,0 +1,186 @@
+package com.example.shop.loadtest;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 부하 드라이버: loadtest 프로필로 실행 중인 애플리케이션에 가상 사용자(가상 스레드)를 붙여
+ * 둘러보기 → 장바구니 → 주문 → 주문 내역 흐름을 반복하고, 엔드포인트별 처리량/응답 시간 백분위/오류율을 출력한다.
+ * 각 사용자는 user{1..members}@loadtest.shop 중 하나로 로그인하고 요청 사이에 대기 없이(think 지정 시 대기) 다음 요청을 보낸다.
+ * 사용자는 예열 구간 앞쪽 절반에 걸쳐 차례로 투입하고, 예열 구간의 기록은 버리고 측정 구간만 집계한다.
+ *
+ * <pre>
+ * mvn -Ploadtest compile exec:exec -Dloadtest.args="--users=64 --duration=PT2M"
+ * </pre>
+ */
+public final class LoadDriver {
+
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(10);
+
+    /** 현재 기록 중인 구간 (예열 → 측정 전환 시 교체) */
+    private volatile Map<String, LatencyStats> stats = new ConcurrentHashMap<>();
+    private volatile boolean running = true;
+
+    private final Options options;
+
+    LoadDriver(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Options options = Options.parse(args);
+        System.out.println("부하 테스트: " + options);
+        new LoadDriver(options).run();
+    }
+
+    /** 측정 구간의 결과를 출력하고 돌려준다 */
+    Result run() throws InterruptedException {
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .followRedirects(HttpClient.Redirect.NEVER)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+
+        SplittableRandom seeds = new SplittableRandom(options.seed());
+        try (ExecutorService users = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.users(); i++) {
+                long memberId = 1 + seeds.nextLong(options.members());
+                SplittableRandom random = seeds.split();
+                // 예열 구간의 절반에 걸쳐 사용자를 고르게 투입 (로그인 해시가 한꺼번에 몰리지 않게)
+                Duration rampUp = options.warmup().dividedBy(2).multipliedBy(i).dividedBy(options.users());
+                users.submit(() -> runUser(new VirtualUser(client, options, () -> stats, random, memberId), rampUp));
+            }
+
+            report("예열", sleep(options.warmup()), false);
+            stats = new ConcurrentHashMap<>();
+            double seconds = sleep(options.duration());
+            report("측정", seconds, true);
+            running = false;
+            users.shutdownNow();
+            users.awaitTermination(10, TimeUnit.SECONDS);
+            return new Result(seconds, new TreeMap<>(stats));
+        }
+    }
+
+    private void runUser(VirtualUser user, Duration rampUp) {
+        pause(rampUp);
+        while (running && !user.login()) {
+            pause(Duration.ofSeconds(1));
+        }
+        while (running && !Thread.currentThread().isInterrupted()) {
+            user.iterate();
+            if (!options.think().isZero()) {
+                pause(options.think());
+            }
+        }
+    }
+
+    /** 구간이 끝날 때까지 주기적으로 진행 상황을 출력하고 실제 경과 시간(초)을 돌려준다 */
+    private double sleep(Duration period) throws InterruptedException {
+        long start = System.nanoTime();
+        long end = start + period.toNanos();
+        long lastTime = start;
+        long lastCount = 0;
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            TimeUnit.NANOSECONDS.sleep(Math.min(PROGRESS_INTERVAL.toNanos(), end - now));
+            now = System.nanoTime();
+            long count = stats.values().stream().mapToLong(LatencyStats::getCount).sum();
+            long errors = stats.values().stream().mapToLong(LatencyStats::getErrorCount).sum();
+            System.out.printf("  %4ds  %,10d req  %8.1f req/s  오류 %,d%n", TimeUnit.NANOSECONDS.toSeconds(now - start),
+                    count, (count - lastCount) * 1e9 / (now - lastTime), errors);
+            lastTime = now;
+            lastCount = count;
+        }
+        return (System.nanoTime() - start) / 1e9;
+    }
+
+    /** 오류 사유는 항상, 엔드포인트별 응답 시간 표는 측정 구간에만 출력 */
+    private void report(String phase, double seconds, boolean detail) {
+        Map<String, LatencyStats> snapshot = new TreeMap<>(stats);
+        long total = snapshot.values().stream().mapToLong(LatencyStats::getCount).sum();
+        long errors = snapshot.values().stream().mapToLong(LatencyStats::getErrorCount).sum();
+        System.out.printf("%n[%s] %.0f초, %,d 요청, %.1f req/s, 오류 %,d (%.2f%%)%n",
+                phase, seconds, total, total / seconds, errors, total == 0 ? 0 : errors * 100.0 / total);
+        if (detail) {
+            System.out.printf("%-22s %9s %9s %7s %8s %8s %8s %8s %8s %8s%n",
+                    "endpoint", "count", "req/s", "err%", "mean", "p50", "p90", "p99", "p99.9", "max(ms)");
+            snapshot.forEach((endpoint, s) -> System.out.printf("%-22s %,9d %9.1f %6.2f%% %8.1f %8.1f %8.1f %8.1f %8.1f %8.1f%n",
+                    endpoint, s.getCount(), s.getCount() / seconds,
+                    s.getCount() == 0 ? 0 : s.getErrorCount() * 100.0 / s.getCount(),
+                    s.getMeanMillis(), s.percentileMillis(0.50), s.percentileMillis(0.90),
+                    s.percentileMillis(0.99), s.percentileMillis(0.999), s.getMaxMillis()));
+        }
+
+        snapshot.forEach((endpoint, s) -> s.getErrors().forEach((reason, count) ->
+                System.out.printf("  오류 %-20s %-24s %,d%n", endpoint, reason, count.sum())));
+    }
+
+    private static void pause(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /** 측정 구간 길이(초)와 엔드포인트별 기록 */
+    record Result(double seconds, Map<String, LatencyStats> stats) {
+    }
+
+    /**
+     * 실행 옵션 (--name=value).
+     * checkout-ratio는 전체 반복 중 주문까지 가는 비율로 cart-ratio 이하여야 한다.
+     */
+    record Options(String baseUrl, int users, Duration warmup, Duration duration, Duration think,
+                   long members, String emailDomain, String password, int pages,
+                   double cartRatio, double checkoutRatio, double historyRatio, long seed) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("옵션은 --name=value 형식이어야 합니다: " + arg);
+                }
+                int eq = arg.indexOf('=');
+                values.put(arg.substring(2, eq), arg.substring(eq + 1));
+            }
+
+            Options options = new Options(
+                    take(values, "base-url", "http://localhost:8080"),
+                    Integer.parseInt(take(values, "users", "32")),
+                    Duration.parse(take(values, "warmup", "PT15S")),
+                    Duration.parse(take(values, "duration", "PT60S")),
+                    Duration.parse(take(values, "think", "PT0S")),
+                    Long.parseLong(take(values, "members", "10000")),
+                    take(values, "email-domain", "@loadtest.shop"),
+                    take(values, "password", "loadtest1234"),
+                    Integer.parseInt(take(values, "pages", "50")),
+                    Double.parseDouble(take(values, "cart-ratio", "0.3")),
+                    Double.parseDouble(take(values, "checkout-ratio", "0.1")),
+                    Double.parseDouble(take(values, "history-ratio", "0.2")),
+                    Long.parseLong(take(values, "seed", "42")));
+            if (!values.isEmpty()) {
+                throw new IllegalArgumentException("알 수 없는 옵션: " + values.keySet());
+            }
+            if (options.checkoutRatio() > options.cartRatio()) {
+                throw new IllegalArgumentException("checkout-ratio는 cart-ratio 이하여야 합니다.");
+            }
+            return options;
+        }
+
+        private static String take(Map<String, String> values, String name, String defaultValue) {
+            String value = values.remove(name);
+            return value != null ? value : defaultValue;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.shop.loadtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintWriter;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 플랫폼 스레드 vs 가상 스레드 비교: 애플리케이션 jar를 loadtest 프로필로 모드마다 새로 띄워
+ * 같은 옵션으로 부하 드라이버를 돌리고, 상품 목록과 주문 요청의 처리량과 p99를 나란히 출력한다.
+ * 첫 기동에서 데이터가 생성되고 두 번째 기동은 같은 DB 파일을 다시 쓴다 (생성 시간은 측정에 들어가지 않는다).
+ * 애플리케이션 로그는 target/thread-mode-{모드}.log에 남는다.
+ *
+ * <pre>
+ * mvn clean package -DskipTests
+ * mvn -Ploadtest compile exec:exec -Dloadtest.main=com.example.shop.loadtest.ThreadModeComparison \
+ *   -Dloadtest.args="--app.shop.loadtest.members=200000 --users=256 --duration=PT2M"
+ * </pre>
+ */
+public final class ThreadModeComparison {
+
+    private static final List<String> ENDPOINTS = List.of("GET /products", "POST /order/checkout");
+    private static final List<String> READY_LOGS = List.of("부하 테스트 데이터 생성 완료", "부하 테스트 데이터가 이미 존재합니다");
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(60);
+
+    private ThreadModeComparison() {
+    }
+
+    /**
+     * 이 클래스의 옵션: --jar(애플리케이션 jar), --startup-timeout(기동·데이터 생성 대기 상한),
+     * --app.{설정}=값(애플리케이션에 --{설정}=값으로 전달). 나머지는 부하 드라이버 옵션.
+     */
+    public static void main(String[] args) throws Exception {
+        Path jar = Path.of("target/shop-0.0.1-SNAPSHOT.jar");
+        Duration startupTimeout = Duration.ofMinutes(30);
+        List<String> appArgs = new ArrayList<>();
+        List<String> driverArgs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--jar=")) {
+                jar = Path.of(arg.substring("--jar=".length()));
+            } else if (arg.startsWith("--startup-timeout=")) {
+                startupTimeout = Duration.parse(arg.substring("--startup-timeout=".length()));
+            } else if (arg.startsWith("--app.")) {
+                appArgs.add("--" + arg.substring("--app.".length()));
+            } else {
+                driverArgs.add(arg);
+            }
+        }
+        if (!Files.isRegularFile(jar)) {
+            throw new IllegalArgumentException("애플리케이션 jar가 없습니다 (mvn clean package -DskipTests): " + jar);
+        }
+        LoadDriver.Options options = LoadDriver.Options.parse(driverArgs.toArray(String[]::new));
+        int port = URI.create(options.baseUrl()).getPort();
+
+        Map<String, LoadDriver.Result> results = new LinkedHashMap<>();
+        for (boolean virtual : new boolean[]{false, true}) {
+            String mode = virtual ? "virtual" : "platform";
+            List<String> command = new ArrayList<>(List.of(
+                    Path.of(System.getProperty("java.home"), "bin", "java").toString(), "-jar", jar.toString(),
+                    "--spring.profiles.active=loadtest",
+                    "--spring.threads.virtual.enabled=" + virtual,
+                    "--server.port=" + (port > 0 ? port : 8080)));
+            command.addAll(appArgs);
+
+            System.out.printf("%n===== %s 스레드 모드 =====%n", mode);
+            Process app = start(command, Path.of("target", "thread-mode-" + mode + ".log"), startupTimeout);
+            try {
+                results.put(mode, new LoadDriver(options).run());
+            } finally {
+                stop(app);
+            }
+        }
+        compare(results);
+    }
+
+    /** 애플리케이션을 띄우고 출력을 로그 파일로 옮기며, 데이터 준비 로그가 나올 때까지 기다린다 */
+    private static Process start(List<String> command, Path log, Duration timeout) throws IOException, InterruptedException {
+        Process app = new ProcessBuilder(command).redirectErrorStream(true).start();
+        CountDownLatch ready = new CountDownLatch(1);
+        Thread.ofVirtual().start(() -> {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(app.getInputStream(), StandardCharsets.UTF_8));
+                 PrintWriter writer = new PrintWriter(Files.newBufferedWriter(log, StandardCharsets.UTF_8), true)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    writer.println(line);
+                    String current = line;
+                    if (READY_LOGS.stream().anyMatch(current::contains)) {
+                        ready.countDown();
+                    }
+                }
+            } catch (IOException e) {
+                // 프로세스 종료로 스트림이 닫힘
+            }
+        });
+
+        System.out.println("기동 대기: " + log);
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!ready.await(1, TimeUnit.SECONDS)) {
+            if (!app.isAlive()) {
+                throw new IllegalStateException("애플리케이션이 기동 중 종료되었습니다 (exit " + app.exitValue() + "): " + log);
+            }
+            if (System.nanoTime() > deadline) {
+                stop(app);
+                throw new IllegalStateException("애플리케이션 기동 대기 시간을 넘었습니다: " + log);
+            }
+        }
+        return app;
+    }
+
+    /** 정상 종료(SIGTERM)를 기다리고, 넘으면 강제 종료 */
+    private static void stop(Process app) throws InterruptedException {
+        app.destroy();
+        if (!app.waitFor(SHUTDOWN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+            app.destroyForcibly().waitFor();
+        }
+    }
+
+    private static void compare(Map<String, LoadDriver.Result> results) {
+        System.out.printf("%n[스레드 모드 비교]%n%-22s %-9s %9s %8s %8s %8s %7s%n",
+                "endpoint", "mode", "req/s", "p50", "p99", "max(ms)", "err%");
+        for (String endpoint : ENDPOINTS) {
+            results.forEach((mode, result) -> {
+                LatencyStats s = result.stats().get(endpoint);
+                if (s == null || s.getCount() == 0) {
+                    System.out.printf("%-22s %-9s %9s%n", endpoint, mode, "-");
+                    return;
+                }
+                System.out.printf("%-22s %-9s %9.1f %8.1f %8.1f %8.1f %6.2f%%%n", endpoint, mode,
+                        s.getCount() / result.seconds(), s.percentileMillis(0.50), s.percentileMillis(0.99),
+                        s.getMaxMillis(), s.getErrorCount() * 100.0 / s.getCount());
+            });
+        }
+        results.forEach((mode, result) -> {
+            long total = result.stats().values().stream().mapToLong(LatencyStats::getCount).sum();
+            System.out.printf("%-22s %-9s %9.1f%n", "(all)", mode, total / result.seconds());
+        });
+    }
+}
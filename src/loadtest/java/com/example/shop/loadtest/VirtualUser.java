@@ -0,0 +1,226 @@
+package com.example.shop.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 로그인한 사용자 한 명: 브라우저처럼 세션 쿠키와 CSRF 토큰을 유지하며 화면 단위 요청을 보낸다.
+ * 리다이렉트는 따라가지 않고 Location으로 성공/실패를 판정한다 (폼 처리 결과가 리다이렉트로만 드러나므로).
+ */
+final class VirtualUser {
+
+    private static final Pattern CSRF = Pattern.compile("name=\"_csrf\"\\s+value=\"([^\"]+)\"");
+    private static final Pattern PRODUCT_LINK = Pattern.compile("href=\"/products/(\\d+)\"");
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final String baseUrl;
+    private final LoadDriver.Options options;
+    private final Supplier<Map<String, LatencyStats>> stats;
+    private final SplittableRandom random;
+    private final String email;
+
+    private final Map<String, String> cookies = new LinkedHashMap<>();
+    private String csrf;
+
+    VirtualUser(HttpClient client, LoadDriver.Options options, Supplier<Map<String, LatencyStats>> stats,
+                SplittableRandom random, long memberId) {
+        this.client = client;
+        this.baseUrl = options.baseUrl();
+        this.options = options;
+        this.stats = stats;
+        this.random = random;
+        this.email = "user" + memberId + options.emailDomain();
+    }
+
+    /** 로그인 폼 → 로그인 (성공 시 "/"로 리다이렉트) */
+    boolean login() {
+        Page form = get("GET /member/login", "/member/login");
+        if (form == null) {
+            return false;
+        }
+        Page result = post("POST /member/login", "/member/login",
+                Map.of("username", email, "password", options.password()));
+        if (result == null) {
+            return false;
+        }
+        if (!result.redirectedTo("/")) {
+            // ?busy: 비밀번호 해시 풀 포화로 거절 (재시도), ?error: 인증 실패
+            fail("POST /member/login", !result.redirectedTo("/member/login") ? "unexpected redirect"
+                    : result.location().contains("busy") ? "hashing busy" : "login rejected");
+            return false;
+        }
+        return true;
+    }
+
+    /** 둘러보기 → (장바구니 담기 → 주문) → 주문 내역 */
+    void iterate() {
+        Page list = get("GET /products", "/products?page=" + random.nextInt(options.pages()));
+        if (list == null) {
+            return;
+        }
+        List<String> productIds = find(PRODUCT_LINK, list.body());
+        if (productIds.isEmpty()) {
+            fail("GET /products", "no products");
+            return;
+        }
+        String productId = productIds.get(random.nextInt(productIds.size()));
+        if (get("GET /products/{id}", "/products/" + productId) == null) {
+            return;
+        }
+
+        double roll = random.nextDouble();
+        if (roll < options.cartRatio()) {
+            Page added = post("POST /cart/add", "/cart/add", Map.of("productId", productId, "quantity", "1"));
+            if (added != null && !added.redirectedTo("/cart")) {
+                fail("POST /cart/add", "unexpected redirect");
+            }
+            get("GET /cart", "/cart");
+            if (roll < options.checkoutRatio()) {
+                checkout();
+            }
+        }
+        if (random.nextDouble() < options.historyRatio()) {
+            get("GET /order/history", "/order/history");
+        }
+    }
+
+    /** 주문서의 hidden/기본값(요청 키, 수령인 정보, 결제수단)을 그대로 제출 */
+    private void checkout() {
+        Page form = get("GET /order/checkout", "/order/checkout");
+        if (form == null) {
+            return;
+        }
+        if (form.redirectedTo("/cart")) {
+            fail("GET /order/checkout", "empty cart");
+            return;
+        }
+        Map<String, String> fields = new LinkedHashMap<>();
+        for (String name : List.of("requestKey", "receiverName", "receiverPhone", "address")) {
+            fields.put(name, inputValue(form.body(), name));
+        }
+        fields.put("paymentMethod", "CREDIT_CARD");
+        Page result = post("POST /order/checkout", "/order/checkout", fields);
+        if (result != null && !result.redirectedUnder("/order/complete/")) {
+            fail("POST /order/checkout", "order rejected");
+        }
+    }
+
+    private Page get(String endpoint, String path) {
+        return send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path)).GET());
+    }
+
+    private Page post(String endpoint, String path, Map<String, String> form) {
+        StringBuilder body = new StringBuilder("_csrf=").append(encode(csrf));
+        form.forEach((name, value) -> body.append('&').append(name).append('=').append(encode(value)));
+        return send(endpoint, HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/x-www-form-urlencoded")
+                .POST(HttpRequest.BodyPublishers.ofString(body.toString())));
+    }
+
+    /** 응답 시간과 오류를 기록, 4xx/5xx·입출력 오류·(로그인 요청 외의) 로그인 화면 리다이렉트는 실패 */
+    private Page send(String endpoint, HttpRequest.Builder builder) {
+        LatencyStats endpointStats = stats.get().computeIfAbsent(endpoint, e -> new LatencyStats());
+        if (!cookies.isEmpty()) {
+            builder.header("Cookie", cookieHeader());
+        }
+        HttpRequest request = builder.timeout(REQUEST_TIMEOUT).build();
+
+        long start = System.nanoTime();
+        HttpResponse<String> response;
+        try {
+            response = client.send(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            endpointStats.error("io " + e.getClass().getSimpleName());
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+        endpointStats.record((System.nanoTime() - start) / 1000);
+
+        response.headers().allValues("Set-Cookie").forEach(this::storeCookie);
+        Page page = new Page(response.statusCode(), response.headers().firstValue("Location").orElse(null), response.body());
+        if (page.status() >= 400) {
+            endpointStats.error("http " + page.status());
+            return null;
+        }
+        if (page.redirectedTo("/member/login") && !endpoint.endsWith("/member/login")) {
+            endpointStats.error("session lost");
+            return null;
+        }
+        Matcher matcher = CSRF.matcher(page.body());
+        if (matcher.find()) {
+            csrf = matcher.group(1);
+        }
+        return page;
+    }
+
+    private void fail(String endpoint, String reason) {
+        stats.get().computeIfAbsent(endpoint, e -> new LatencyStats()).error(reason);
+    }
+
+    private void storeCookie(String header) {
+        String pair = header.split(";", 2)[0];
+        int eq = pair.indexOf('=');
+        if (eq > 0) {
+            cookies.put(pair.substring(0, eq).trim(), pair.substring(eq + 1).trim());
+        }
+    }
+
+    private String cookieHeader() {
+        StringBuilder sb = new StringBuilder();
+        cookies.forEach((name, value) -> sb.append(sb.isEmpty() ? "" : "; ").append(name).append('=').append(value));
+        return sb.toString();
+    }
+
+    private static String inputValue(String html, String name) {
+        Matcher matcher = Pattern.compile("name=\"" + name + "\"[^>]*?value=\"([^\"]*)\"").matcher(html);
+        return matcher.find() ? matcher.group(1) : "";
+    }
+
+    private static List<String> find(Pattern pattern, String html) {
+        List<String> values = new ArrayList<>();
+        Matcher matcher = pattern.matcher(html);
+        while (matcher.find()) {
+            values.add(matcher.group(1));
+        }
+        return values;
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value == null ? "" : value, StandardCharsets.UTF_8);
+    }
+
+    record Page(int status, String location, String body) {
+
+        /** 쿼리 문자열은 무시하고 경로가 같은 곳으로 리다이렉트 */
+        boolean redirectedTo(String path) {
+            String target = target();
+            return target != null && (target.equals(path) || target.startsWith(path + "?"));
+        }
+
+        boolean redirectedUnder(String prefix) {
+            String target = target();
+            return target != null && target.startsWith(prefix);
+        }
+
+        private String target() {
+            return location == null ? null : location.replaceFirst("^https?://[^/]+", "");
+        }
+    }
+}
@@ -1,11 +1,11 @@
 package com.example.shop.admin.controller;
 
+import com.example.shop.admin.service.DashboardStatisticsService;
+import com.example.shop.config.security.PasswordHashingMetrics;
+import com.example.shop.config.sql.SqlBudget;
 import com.example.shop.domain.delivery.entity.Delivery;
-import com.example.shop.domain.delivery.service.DeliveryService;
-import com.example.shop.domain.member.repository.MemberRepository;
 import com.example.shop.domain.order.entity.Order;
-import com.example.shop.domain.order.service.OrderService;
-import com.example.shop.domain.product.service.ProductService;
+import com.example.shop.domain.outbox.service.OutboxMetrics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -17,27 +17,33 @@ import org.springframework.web.bind.annotation.RequestMapping;
 @RequiredArgsConstructor
 public class AdminDashboardController {
 
-    private final MemberRepository memberRepository;
-    private final ProductService productService;
-    private final OrderService orderService;
-    private final DeliveryService deliveryService;
+    private final DashboardStatisticsService statistics;
+    private final OutboxMetrics outboxMetrics;
+    private final PasswordHashingMetrics passwordHashingMetrics;
 
+    @SqlBudget(2)
     @GetMapping
     public String dashboard(Model model) {
-        // 통계 정보
-        model.addAttribute("totalMembers", memberRepository.count());
-        model.addAttribute("totalProducts", productService.count());
-        model.addAttribute("totalOrders", orderService.count());
+        // 통계 정보 (메모리 카운터, DB 미조회)
+        model.addAttribute("totalMembers", statistics.getTotalMembers());
+        model.addAttribute("totalProducts", statistics.getTotalProducts());
+        model.addAttribute("totalOrders", statistics.getTotalOrders());
 
         // 주문 상태별 카운트
-        model.addAttribute("pendingOrders", orderService.countByStatus(Order.OrderStatus.PENDING));
-        model.addAttribute("paidOrders", orderService.countByStatus(Order.OrderStatus.PAID));
-        model.addAttribute("shippingOrders", orderService.countByStatus(Order.OrderStatus.SHIPPING));
-        model.addAttribute("deliveredOrders", orderService.countByStatus(Order.OrderStatus.DELIVERED));
+        model.addAttribute("pendingOrders", statistics.countOrders(Order.OrderStatus.PENDING));
+        model.addAttribute("paidOrders", statistics.countOrders(Order.OrderStatus.PAID));
+        model.addAttribute("shippingOrders", statistics.countOrders(Order.OrderStatus.SHIPPING));
+        model.addAttribute("deliveredOrders", statistics.countOrders(Order.OrderStatus.DELIVERED));
 
         // 배송 상태별 카운트
-        model.addAttribute("pendingDeliveries", deliveryService.countByStatus(Delivery.DeliveryStatus.PENDING));
-        model.addAttribute("shippingDeliveries", deliveryService.countByStatus(Delivery.DeliveryStatus.SHIPPING));
+        model.addAttribute("pendingDeliveries", statistics.countDeliveries(Delivery.DeliveryStatus.PENDING));
+        model.addAttribute("shippingDeliveries", statistics.countDeliveries(Delivery.DeliveryStatus.SHIPPING));
+
+        // 주문 후속 처리(아웃박스) 처리량/지연 (이 서버 기동 이후 누적)
+        model.addAttribute("outbox", outboxMetrics);
+
+        // 로그인 처리량과 비밀번호 해시 시간/대기 시간 (이 서버 기동 이후 누적)
+        model.addAttribute("login", passwordHashingMetrics);
 
         return "admin/dashboard";
     }
@@ -1,8 +1,11 @@
 package com.example.shop.admin.controller;
 
+import com.example.shop.admin.service.DashboardStatisticsService;
+import com.example.shop.config.sql.SqlBudget;
 import com.example.shop.domain.delivery.dto.DeliveryDto;
 import com.example.shop.domain.delivery.entity.Delivery;
 import com.example.shop.domain.delivery.service.DeliveryService;
+import com.example.shop.domain.order.dto.OrderDto;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -19,12 +22,15 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 public class AdminDeliveryController {
 
     private final DeliveryService deliveryService;
+    private final DashboardStatisticsService statistics;
 
+    @SqlBudget(2)
     @GetMapping
     public String list(@RequestParam(defaultValue = "") String keyword,
                       @RequestParam(required = false) String status,
                       @RequestParam(defaultValue = "0") int page,
                       @RequestParam(defaultValue = "20") int size,
+                      @RequestParam(required = false) String cursor,
                       Model model) {
         Delivery.DeliveryStatus deliveryStatus = null;
         if (status != null && !status.isEmpty()) {
@@ -33,10 +39,23 @@ public class AdminDeliveryController {
             } catch (IllegalArgumentException ignored) {}
         }
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
-        Page<Delivery> deliveries = deliveryService.search(deliveryStatus, keyword.isEmpty() ? null : keyword, pageable);
+        if (cursor != null) {
+            // 키셋 페이징: 배송은 주문과 1:1이므로 검색어가 없을 때 대시보드 카운터로 총 건수 근사
+            OrderDto.CursorPage<DeliveryDto.Response> deliveries = deliveryService.search(
+                    deliveryStatus, keyword.isEmpty() ? null : keyword, OrderDto.Cursor.parse(cursor), size)
+                    .map(DeliveryDto.Response::from);
+            if (keyword.isEmpty()) {
+                deliveries = deliveries.withApproximateTotal(
+                        deliveryStatus == null ? statistics.getTotalOrders() : statistics.countDeliveries(deliveryStatus));
+            }
+            model.addAttribute("deliveries", deliveries);
+        } else {
+            Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
+            Page<Delivery> deliveries = deliveryService.search(deliveryStatus, keyword.isEmpty() ? null : keyword, pageable);
+            model.addAttribute("deliveries", deliveries.map(DeliveryDto.Response::from));
+        }
 
-        model.addAttribute("deliveries", deliveries.map(DeliveryDto.Response::from));
+        model.addAttribute("keyset", cursor != null);
         model.addAttribute("statuses", Delivery.DeliveryStatus.values());
         model.addAttribute("keyword", keyword);
         model.addAttribute("status", status);
@@ -1,5 +1,6 @@
 package com.example.shop.admin.controller;
 
+import com.example.shop.config.sql.SqlBudget;
 import com.example.shop.domain.member.dto.MemberDto;
 import com.example.shop.domain.member.entity.Member;
 import com.example.shop.domain.member.service.MemberService;
@@ -22,6 +23,7 @@ public class AdminMemberController {
 
     private final MemberService memberService;
 
+    @SqlBudget(2)
     @GetMapping
     public String list(@RequestParam(defaultValue = "") String keyword,
                       @RequestParam(defaultValue = "0") int page,
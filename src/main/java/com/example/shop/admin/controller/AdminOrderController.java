@@ -1,30 +1,54 @@
 package com.example.shop.admin.controller;
 
+import com.example.shop.admin.service.DashboardStatisticsService;
+import com.example.shop.config.sql.SqlBudget;
 import com.example.shop.domain.order.dto.OrderDto;
 import com.example.shop.domain.order.entity.Order;
+import com.example.shop.domain.order.service.OrderExportService;
 import com.example.shop.domain.order.service.OrderService;
+import com.example.shop.domain.order.service.OrderTransactionRetry;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
 @Controller
 @RequestMapping("/admin/orders")
 @RequiredArgsConstructor
 public class AdminOrderController {
 
+    private static final DateTimeFormatter EXPORT_FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final int EXPORT_BUFFER_SIZE = 64 * 1024;
+
     private final OrderService orderService;
+    private final OrderExportService orderExportService;
+    private final OrderTransactionRetry orderTransactionRetry;
+    private final DashboardStatisticsService statistics;
 
+    @SqlBudget(2)
     @GetMapping
     public String list(@RequestParam(defaultValue = "") String keyword,
                       @RequestParam(required = false) String status,
                       @RequestParam(defaultValue = "0") int page,
                       @RequestParam(defaultValue = "20") int size,
+                      @RequestParam(required = false) String cursor,
                       Model model) {
         Order.OrderStatus orderStatus = null;
         if (status != null && !status.isEmpty()) {
@@ -33,10 +57,21 @@ public class AdminOrderController {
             } catch (IllegalArgumentException ignored) {}
         }
 
-        Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "orderedAt"));
-        Page<OrderDto.AdminListResponse> orders = orderService.searchForAdmin(orderStatus, keyword.isEmpty() ? null : keyword, pageable);
+        if (cursor != null) {
+            // 키셋 페이징: 총 건수는 검색어가 없을 때만 대시보드 카운터로 근사
+            OrderDto.CursorPage<OrderDto.AdminListResponse> orders = orderService.searchForAdmin(
+                    orderStatus, keyword.isEmpty() ? null : keyword, OrderDto.Cursor.parse(cursor), size);
+            if (keyword.isEmpty()) {
+                orders = orders.withApproximateTotal(
+                        orderStatus == null ? statistics.getTotalOrders() : statistics.countOrders(orderStatus));
+            }
+            model.addAttribute("orders", orders);
+        } else {
+            Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "orderedAt"));
+            model.addAttribute("orders", orderService.searchForAdmin(orderStatus, keyword.isEmpty() ? null : keyword, pageable));
+        }
 
-        model.addAttribute("orders", orders);
+        model.addAttribute("keyset", cursor != null);
         model.addAttribute("statuses", Order.OrderStatus.values());
         model.addAttribute("keyword", keyword);
         model.addAttribute("status", status);
@@ -44,6 +79,31 @@ public class AdminOrderController {
         return "admin/order/list";
     }
 
+    /** 회계 정산용 내보내기: 조회 결과를 모으지 않고 응답으로 바로 스트리밍 (to는 해당 일자 포함) */
+    @SqlBudget(2)
+    @GetMapping("/export")
+    public String export(@RequestParam(required = false) Order.OrderStatus status,
+                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                         @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+                         @RequestParam(defaultValue = "CSV") OrderExportService.Format format,
+                         HttpServletResponse response,
+                         RedirectAttributes redirectAttributes) throws IOException {
+        if (from != null && to != null && from.isAfter(to)) {
+            redirectAttributes.addFlashAttribute("error", "조회 시작일이 종료일보다 늦습니다.");
+            return "redirect:/admin/orders";
+        }
+
+        String filename = "orders-" + LocalDateTime.now().format(EXPORT_FILE_TIME) + "." + format.getExtension();
+        response.setContentType(format.getContentType());
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build().toString());
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8), EXPORT_BUFFER_SIZE);
+        orderExportService.export(status, from, to, format, writer);
+        return null;
+    }
+
+    @SqlBudget(2)
     @GetMapping("/{id}")
     public String detail(@PathVariable Long id, Model model) {
         Order order = orderService.findById(id);
@@ -69,7 +129,7 @@ public class AdminOrderController {
     @PostMapping("/{id}/cancel")
     public String cancel(@PathVariable Long id, RedirectAttributes redirectAttributes) {
         try {
-            orderService.cancel(id);
+            orderTransactionRetry.run(() -> orderService.cancel(id));
             redirectAttributes.addFlashAttribute("message", "주문이 취소되었습니다.");
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", e.getMessage());
@@ -1,20 +1,27 @@
 package com.example.shop.admin.controller;
 
+import com.example.shop.config.sql.SqlBudget;
 import com.example.shop.domain.product.dto.ProductDto;
 import com.example.shop.domain.product.entity.Product;
+import com.example.shop.domain.product.service.ProductImportService;
 import com.example.shop.domain.product.service.ProductService;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.validation.BindingResult;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @Controller
@@ -23,7 +30,9 @@ import java.util.List;
 public class AdminProductController {
 
     private final ProductService productService;
+    private final ProductImportService productImportService;
 
+    @SqlBudget(3)
     @GetMapping
     public String list(@RequestParam(defaultValue = "") String keyword,
                       @RequestParam(required = false) String category,
@@ -69,6 +78,41 @@ public class AdminProductController {
         return "redirect:/admin/products/" + product.getId();
     }
 
+    /** 공급사 카탈로그 일괄 등록 (작은 파일): multipart 업로드, 크기는 전역 spring.servlet.multipart 한도 */
+    @PostMapping(path = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public String importProducts(@RequestParam("file") MultipartFile file, RedirectAttributes redirectAttributes) {
+        if (file.isEmpty()) {
+            redirectAttributes.addFlashAttribute("error", "업로드할 파일을 선택하세요.");
+            return "redirect:/admin/products";
+        }
+
+        try (InputStream in = file.getInputStream()) {
+            addImportResult(productImportService.importProducts(
+                    in, ProductImportService.Format.of(file.getOriginalFilename())), redirectAttributes);
+        } catch (IllegalArgumentException | IOException e) {
+            redirectAttributes.addFlashAttribute("error", "상품 일괄 등록 실패: " + e.getMessage());
+        }
+        return "redirect:/admin/products";
+    }
+
+    /** 공급사 카탈로그 일괄 등록 (큰 파일): 요청 본문을 그대로 스트림으로 읽어 청크 단위로 반영 */
+    @PostMapping(path = "/import", consumes = {ProductImportService.TEXT_CSV_VALUE,
+            MediaType.APPLICATION_JSON_VALUE, ProductImportService.APPLICATION_NDJSON_VALUE})
+    public String importProductsBody(HttpServletRequest request, RedirectAttributes redirectAttributes) {
+        try (InputStream in = request.getInputStream()) {
+            addImportResult(productImportService.importBody(in, request.getContentLengthLong(),
+                    ProductImportService.Format.of(MediaType.parseMediaType(request.getContentType()))), redirectAttributes);
+        } catch (IllegalArgumentException | IOException e) {
+            redirectAttributes.addFlashAttribute("error", "상품 일괄 등록 실패: " + e.getMessage());
+        }
+        return "redirect:/admin/products";
+    }
+
+    private static void addImportResult(ProductDto.ImportResult result, RedirectAttributes redirectAttributes) {
+        redirectAttributes.addFlashAttribute("message", result.summary());
+        redirectAttributes.addFlashAttribute("importErrors", result.getErrors());
+    }
+
     @GetMapping("/{id}")
     public String detail(@PathVariable Long id, Model model) {
         Product product = productService.findById(id);
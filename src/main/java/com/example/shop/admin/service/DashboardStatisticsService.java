@@ -0,0 +1,132 @@
+package com.example.shop.admin.service;
+
+import com.example.shop.domain.delivery.entity.Delivery;
+import com.example.shop.domain.delivery.event.DeliveryStatusChangedEvent;
+import com.example.shop.domain.delivery.repository.DeliveryRepository;
+import com.example.shop.domain.member.repository.MemberRepository;
+import com.example.shop.domain.order.entity.Order;
+import com.example.shop.domain.order.event.OrderStatusChangedEvent;
+import com.example.shop.domain.order.repository.OrderRepository;
+import com.example.shop.domain.product.event.ProductChangedEvent;
+import com.example.shop.domain.product.event.ProductsImportedEvent;
+import com.example.shop.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 관리자 대시보드 통계: 주문/배송 상태 전이 이벤트로 메모리 카운터를 갱신하여 페이지 조회 시 DB를 사용하지 않는다.
+ * 회원 수 및 이벤트 누락/경합으로 생긴 오차는 주기적으로 DB 집계와 맞춘다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardStatisticsService {
+
+    private final MemberRepository memberRepository;
+    private final ProductRepository productRepository;
+    private final OrderRepository orderRepository;
+    private final DeliveryRepository deliveryRepository;
+
+    private final LongAdder totalMembers = new LongAdder();
+    private final LongAdder totalProducts = new LongAdder();
+    private final LongAdder totalOrders = new LongAdder();
+    private final Map<Order.OrderStatus, LongAdder> orderCounts = counters(Order.OrderStatus.class);
+    private final Map<Delivery.DeliveryStatus, LongAdder> deliveryCounts = counters(Delivery.DeliveryStatus.class);
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onOrderStatusChanged(OrderStatusChangedEvent event) {
+        if (event.getPrevious() == null) {
+            totalOrders.increment();
+        } else {
+            orderCounts.get(event.getPrevious()).decrement();
+        }
+        orderCounts.get(event.getCurrent()).increment();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDeliveryStatusChanged(DeliveryStatusChangedEvent event) {
+        if (event.getPrevious() != null) {
+            deliveryCounts.get(event.getPrevious()).decrement();
+        }
+        deliveryCounts.get(event.getCurrent()).increment();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        if (event.getType() == ProductChangedEvent.Type.CREATED) {
+            totalProducts.increment();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        reset(totalProducts, productRepository.count());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(fixedDelayString = "${shop.admin.dashboard.reconcile-interval:PT5M}",
+               initialDelayString = "${shop.admin.dashboard.reconcile-interval:PT5M}")
+    public void reconcile() {
+        reset(totalMembers, memberRepository.count());
+        reset(totalProducts, productRepository.count());
+        reset(totalOrders, orderRepository.count());
+
+        Map<Order.OrderStatus, Long> orders = new EnumMap<>(Order.OrderStatus.class);
+        for (Object[] row : orderRepository.countGroupByStatus()) {
+            orders.put((Order.OrderStatus) row[0], (Long) row[1]);
+        }
+        orderCounts.forEach((status, counter) -> reset(counter, orders.getOrDefault(status, 0L)));
+
+        Map<Delivery.DeliveryStatus, Long> deliveries = new EnumMap<>(Delivery.DeliveryStatus.class);
+        for (Object[] row : deliveryRepository.countGroupByStatus()) {
+            deliveries.put((Delivery.DeliveryStatus) row[0], (Long) row[1]);
+        }
+        deliveryCounts.forEach((status, counter) -> reset(counter, deliveries.getOrDefault(status, 0L)));
+
+        log.debug("대시보드 통계 보정 완료: orders={}, deliveries={}", orders, deliveries);
+    }
+
+    public long getTotalMembers() {
+        return totalMembers.sum();
+    }
+
+    public long getTotalProducts() {
+        return totalProducts.sum();
+    }
+
+    public long getTotalOrders() {
+        return totalOrders.sum();
+    }
+
+    public long countOrders(Order.OrderStatus status) {
+        return orderCounts.get(status).sum();
+    }
+
+    public long countDeliveries(Delivery.DeliveryStatus status) {
+        return deliveryCounts.get(status).sum();
+    }
+
+    /** 집계값으로 교체: 보정 도중 반영된 이벤트는 다음 보정에서 다시 맞춰진다 */
+    private static void reset(LongAdder counter, long value) {
+        counter.add(value - counter.sum());
+    }
+
+    private static <E extends Enum<E>> Map<E, LongAdder> counters(Class<E> type) {
+        Map<E, LongAdder> map = new EnumMap<>(type);
+        for (E constant : List.of(type.getEnumConstants())) {
+            map.put(constant, new LongAdder());
+        }
+        return map;
+    }
+}
@@ -9,6 +9,7 @@ import com.example.shop.domain.order.entity.Order;
 import com.example.shop.domain.order.entity.OrderItem;
 import com.example.shop.domain.order.entity.Payment;
 import com.example.shop.domain.order.repository.OrderRepository;
+import com.example.shop.domain.order.service.OrderNumberGenerator;
 import com.example.shop.domain.product.entity.Product;
 import com.example.shop.domain.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
@@ -33,6 +34,7 @@ public class DataInitializer implements CommandLineRunner {
     private final ProductRepository productRepository;
     private final OrderRepository orderRepository;
     private final PasswordEncoder passwordEncoder;
+    private final OrderNumberGenerator orderNumberGenerator;
 
     @Override
     @Transactional
@@ -512,6 +514,7 @@ public class DataInitializer implements CommandLineRunner {
 
         Order order1 = Order.builder()
                 .member(user1)
+                .orderNumber(orderNumberGenerator.generate())
                 .status(Order.OrderStatus.DELIVERED)
                 .totalAmount(product1.getPrice())
                 .build();
@@ -549,6 +552,7 @@ public class DataInitializer implements CommandLineRunner {
 
         Order order2 = Order.builder()
                 .member(user2)
+                .orderNumber(orderNumberGenerator.generate())
                 .status(Order.OrderStatus.SHIPPING)
                 .totalAmount(product2.getPrice())
                 .build();
@@ -588,6 +592,7 @@ public class DataInitializer implements CommandLineRunner {
 
         Order order3 = Order.builder()
                 .member(user3)
+                .orderNumber(orderNumberGenerator.generate())
                 .status(Order.OrderStatus.PAID)
                 .totalAmount(totalAmount)
                 .build();
@@ -0,0 +1,392 @@
+package com.example.shop.config;
+
+import com.example.shop.domain.delivery.entity.Delivery;
+import com.example.shop.domain.order.entity.Order;
+import com.example.shop.domain.order.entity.Payment;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongFunction;
+
+/**
+ * 부하 테스트용 대량 데이터 생성 (loadtest 프로필).
+ * 회원/장바구니/상품/주문(주문상품, 결제, 배송)을 ID 구간별 JDBC 배치 INSERT로 여러 스레드에서 나눠 넣는다.
+ * 각 행은 (시드, 테이블, ID)로 만든 난수로 생성하므로 스레드 수나 배치 크기와 관계없이 같은 시드면 같은 데이터가 나온다 (시각은 실행일 기준).
+ * ID를 직접 지정하므로 시퀀스 동기화(SequenceSynchronizer)보다 먼저 실행되고, 캐시/검색 인덱스는 이후 ApplicationReadyEvent에서 구성된다.
+ */
+@Slf4j
+@Component
+@Profile("loadtest")
+public class LoadTestDataInitializer implements ApplicationRunner, Ordered {
+
+    /** 생성 회원 계정: user{id}@loadtest.shop, 비밀번호는 모두 같다 (해시도 한 번만 계산) */
+    public static final String EMAIL_DOMAIN = "@loadtest.shop";
+
+    private static final String[] CATEGORIES = {"의류", "전자제품", "식품", "생활용품", "도서", "스포츠", "뷰티", "가구"};
+    private static final String[][] PRODUCT_NOUNS = {
+            {"티셔츠", "청바지", "자켓", "니트", "원피스", "코트", "셔츠", "후드티"},
+            {"이어폰", "스마트워치", "노트북", "키보드", "마우스", "모니터", "충전기", "스피커"},
+            {"유기농 쌀", "견과류", "커피 원두", "녹차", "그래놀라", "올리브유", "김", "꿀"},
+            {"수건", "텀블러", "세제", "칫솔", "방향제", "수납함", "우산", "슬리퍼"},
+            {"소설", "에세이", "요리책", "자기계발서", "만화책", "여행 가이드", "그림책", "잡지"},
+            {"요가매트", "덤벨", "러닝화", "등산 가방", "자전거 장갑", "수영복", "축구공", "텐트"},
+            {"스킨", "로션", "선크림", "립밤", "샴푸", "핸드크림", "클렌저", "향수"},
+            {"의자", "책상", "선반", "조명", "침대 프레임", "소파", "협탁", "거울"}
+    };
+    private static final String[] ADJECTIVES = {"베이직", "프리미엄", "클래식", "데일리", "슬림", "빈티지", "모던", "내추럴", "컴팩트", "스페셜"};
+    private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "하은", "시우", "지유", "예준", "서윤", "주원", "지우", "하준", "수아"};
+    private static final String[] DISTRICTS = {"서울시 강남구", "서울시 마포구", "서울시 송파구", "부산시 해운대구", "인천시 연수구", "대구시 수성구", "대전시 유성구", "광주시 서구"};
+    private static final Payment.PaymentMethod[] PAYMENT_METHODS = Payment.PaymentMethod.values();
+
+    private static final DateTimeFormatter ORDER_NUMBER_TIMESTAMP = DateTimeFormatter.ofPattern("yyMMddHHmmssSSS");
+
+    /** 난수 스트림 구분 (같은 ID라도 테이블마다 다른 값) */
+    private static final long MEMBER = 1, PRODUCT = 2, CART = 3, ORDER = 4;
+
+    private static final String MEMBER_SQL =
+            "INSERT INTO member (id, email, password, name, phone, address, role, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String CART_SQL =
+            "INSERT INTO cart (id, member_id) VALUES (?, ?)";
+    private static final String CART_ITEM_SQL =
+            "INSERT INTO cart_item (id, cart_id, product_id, quantity) VALUES (?, ?, ?, ?)";
+    private static final String PRODUCT_SQL =
+            "INSERT INTO product (id, name, description, price, stock_quantity, category, image_url, is_active, created_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String ORDER_SQL =
+            "INSERT INTO orders (id, member_id, order_number, total_amount, status, ordered_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String ORDER_ITEM_SQL =
+            "INSERT INTO order_item (id, order_id, product_id, quantity, price) VALUES (?, ?, ?, ?, ?)";
+    private static final String PAYMENT_SQL =
+            "INSERT INTO payment (id, order_id, payment_method, amount, status, paid_at) VALUES (?, ?, ?, ?, ?, ?)";
+    private static final String DELIVERY_SQL =
+            "INSERT INTO delivery (id, order_id, receiver_name, receiver_phone, address, status, tracking_number, shipped_at, delivered_at) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+
+    private final long members;
+    private final long products;
+    private final long orders;
+    private final int maxCartItems;
+    private final int maxOrderItems;
+    private final long seed;
+    private final int threads;
+    private final int batchSize;
+    private final String password;
+
+    /** 주문 시각 구간 [start, start + span): 주문 ID 순서대로 증가 */
+    private final LocalDateTime start = LocalDate.now().atStartOfDay().minusYears(1);
+    private final long orderStepMillis;
+
+    public LoadTestDataInitializer(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   PasswordEncoder passwordEncoder,
+                                   @Value("${shop.loadtest.members:1000000}") long members,
+                                   @Value("${shop.loadtest.products:100000}") long products,
+                                   @Value("${shop.loadtest.orders:1000000}") long orders,
+                                   @Value("${shop.loadtest.max-cart-items:3}") int maxCartItems,
+                                   @Value("${shop.loadtest.max-order-items:5}") int maxOrderItems,
+                                   @Value("${shop.loadtest.seed:42}") long seed,
+                                   @Value("${shop.loadtest.threads:0}") int threads,
+                                   @Value("${shop.loadtest.batch-size:1000}") int batchSize,
+                                   @Value("${shop.loadtest.password:loadtest1234}") String password) {
+        if (members < 1 || products < maxOrderItems || products < maxCartItems || orders < 0) {
+            throw new IllegalArgumentException("shop.loadtest 설정이 올바르지 않습니다: 회원 1명 이상, 상품은 주문/장바구니 최대 품목 수 이상이어야 합니다.");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.members = members;
+        this.products = products;
+        this.orders = orders;
+        this.maxCartItems = maxCartItems;
+        this.maxOrderItems = maxOrderItems;
+        this.seed = seed;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.batchSize = batchSize;
+        this.password = password;
+        this.orderStepMillis = Math.max(1, TimeUnit.DAYS.toMillis(365) / Math.max(1, orders));
+    }
+
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        Long existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM member", Long.class);
+        if (existing != null && existing > 0) {
+            log.info("부하 테스트 데이터가 이미 존재합니다 (회원 {}명). 다시 생성하려면 DB 파일을 삭제하세요.", existing);
+            return;
+        }
+
+        log.info("부하 테스트 데이터 생성 시작: 회원 {}, 상품 {}, 주문 {} (seed={}, threads={}, batch={})",
+                members, products, orders, seed, threads, batchSize);
+        long began = System.nanoTime();
+
+        String passwordHash = passwordEncoder.encode(password);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            // 외래 키 순서: 회원·상품 → 장바구니 → 주문
+            insert(executor, "product", products, this::productBatch);
+            insert(executor, "member", members, from -> memberBatch(from, passwordHash));
+            insert(executor, "cart", members, this::cartBatch);
+            insert(executor, "orders", orders, this::orderBatch);
+        } finally {
+            executor.shutdownNow();
+        }
+        insertAdmin();
+
+        log.info("부하 테스트 데이터 생성 완료: {}초", TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - began));
+        log.info("===========================================");
+        log.info("관리자: admin@shop.com / admin123");
+        log.info("사용자: user1{} ~ user{}{} / {}", EMAIL_DOMAIN, members, EMAIL_DOMAIN, password);
+        log.info("===========================================");
+    }
+
+    /** [1, total] 구간을 batchSize개씩 나눠 병렬 실행, 배치마다 한 트랜잭션 */
+    private void insert(ExecutorService executor, String name, long total, LongFunction<Batch> batchFactory)
+            throws InterruptedException {
+        long began = System.nanoTime();
+        List<Future<Integer>> futures = new ArrayList<>();
+        for (long from = 1; from <= total; from += batchSize) {
+            long batchStart = from;
+            futures.add(executor.submit(() -> transactionTemplate.execute(status -> batchFactory.apply(batchStart).execute())));
+        }
+
+        long rows = 0;
+        try {
+            for (Future<Integer> future : futures) {
+                rows += future.get();
+            }
+        } catch (ExecutionException e) {
+            futures.forEach(f -> f.cancel(true));
+            throw new IllegalStateException("부하 테스트 데이터 생성 실패: " + name, e.getCause());
+        }
+
+        long millis = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - began));
+        log.info("{}: {}행 ({}ms, {}행/초)", name, rows, millis, rows * 1000 / millis);
+    }
+
+    private Batch memberBatch(long from, String passwordHash) {
+        Batch batch = new Batch();
+        for (long id = from; id < from + batchSize && id <= members; id++) {
+            SplittableRandom random = random(MEMBER, id);
+            batch.add(MEMBER_SQL, id, "user" + id + EMAIL_DOMAIN, passwordHash, memberName(id), memberPhone(id),
+                    memberAddress(id), "ROLE_USER", timestamp(start.minusDays(random.nextInt(730)).plusSeconds(random.nextInt(86_400))));
+        }
+        return batch;
+    }
+
+    /** 회원마다 장바구니 하나(ID = 회원 ID)와 서로 다른 상품 0~maxCartItems개 */
+    private Batch cartBatch(long from) {
+        Batch batch = new Batch();
+        for (long id = from; id < from + batchSize && id <= members; id++) {
+            SplittableRandom random = random(CART, id);
+            batch.add(CART_SQL, id, id);
+            long[] productIds = distinctProducts(random, random.nextInt(maxCartItems + 1));
+            for (int i = 0; i < productIds.length; i++) {
+                batch.add(CART_ITEM_SQL, id * maxCartItems + i, id, productIds[i], 1 + random.nextInt(3));
+            }
+        }
+        return batch;
+    }
+
+    private Batch productBatch(long from) {
+        Batch batch = new Batch();
+        for (long id = from; id < from + batchSize && id <= products; id++) {
+            SplittableRandom random = random(PRODUCT, id);
+            int category = random.nextInt(CATEGORIES.length);
+            String noun = PRODUCT_NOUNS[category][random.nextInt(PRODUCT_NOUNS[category].length)];
+            String name = ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " " + noun + " " + id;
+            batch.add(PRODUCT_SQL, id, name,
+                    name + " 상품입니다. " + CATEGORIES[category] + " 카테고리의 " + noun + "로 부하 테스트용으로 생성되었습니다.",
+                    price(id), 1_000 + random.nextInt(99_000), CATEGORIES[category], null,
+                    random.nextInt(100) >= 2, timestamp(start.minusDays(random.nextInt(365))));
+        }
+        return batch;
+    }
+
+    /**
+     * 주문 1건 = orders + order_item 1~maxOrderItems + payment + delivery.
+     * 회원/상품은 앞쪽 ID에 몰리게(제곱 분포) 골라 주문이 많은 회원과 인기 상품이 생기게 하고,
+     * 상태는 오래된 주문일수록 배송완료, 최근 주문일수록 결제완료/배송중이 많게 한다.
+     */
+    private Batch orderBatch(long from) {
+        Batch batch = new Batch();
+        for (long id = from; id < from + batchSize && id <= orders; id++) {
+            SplittableRandom random = random(ORDER, id);
+            long memberId = skewed(random, members);
+            LocalDateTime orderedAt = start.plusNanos(TimeUnit.MILLISECONDS.toNanos(id * orderStepMillis));
+            Order.OrderStatus status = orderStatus(random, (double) id / orders);
+
+            long[] productIds = distinctProducts(random, 1 + random.nextInt(maxOrderItems));
+            int[] quantities = new int[productIds.length];
+            int total = 0;
+            for (int i = 0; i < productIds.length; i++) {
+                quantities[i] = 1 + random.nextInt(3);
+                total += price(productIds[i]) * quantities[i];
+            }
+            batch.add(ORDER_SQL, id, memberId,
+                    ORDER_NUMBER_TIMESTAMP.format(orderedAt) + "99" + String.format("%03d", id % 1000),
+                    total, status.name(), timestamp(orderedAt));
+            for (int i = 0; i < productIds.length; i++) {
+                batch.add(ORDER_ITEM_SQL, id * maxOrderItems + i, id, productIds[i], quantities[i], price(productIds[i]));
+            }
+
+            Payment.PaymentStatus paymentStatus = switch (status) {
+                case PENDING -> Payment.PaymentStatus.PENDING;
+                case CANCELLED -> Payment.PaymentStatus.CANCELLED;
+                default -> Payment.PaymentStatus.COMPLETED;
+            };
+            batch.add(PAYMENT_SQL, id, id, PAYMENT_METHODS[random.nextInt(PAYMENT_METHODS.length)].name(), total,
+                    paymentStatus.name(), status == Order.OrderStatus.PENDING ? null : timestamp(orderedAt.plusMinutes(1)));
+
+            Delivery.DeliveryStatus deliveryStatus = switch (status) {
+                case PREPARING -> Delivery.DeliveryStatus.PREPARING;
+                case SHIPPING -> Delivery.DeliveryStatus.SHIPPING;
+                case DELIVERED -> Delivery.DeliveryStatus.DELIVERED;
+                default -> Delivery.DeliveryStatus.PENDING;
+            };
+            boolean shipped = deliveryStatus == Delivery.DeliveryStatus.SHIPPING || deliveryStatus == Delivery.DeliveryStatus.DELIVERED;
+            batch.add(DELIVERY_SQL, id, id, memberName(memberId), memberPhone(memberId), memberAddress(memberId),
+                    deliveryStatus.name(),
+                    shipped ? String.format("%012d", id) : null,
+                    shipped ? timestamp(orderedAt.plusDays(1)) : null,
+                    deliveryStatus == Delivery.DeliveryStatus.DELIVERED ? timestamp(orderedAt.plusDays(2 + random.nextInt(3))) : null);
+        }
+        return batch;
+    }
+
+    private static Order.OrderStatus orderStatus(SplittableRandom random, double age) {
+        int roll = random.nextInt(100);
+        if (roll < 5) {
+            return Order.OrderStatus.CANCELLED;
+        }
+        if (age < 0.97) {
+            return Order.OrderStatus.DELIVERED;
+        }
+        return roll < 15 ? Order.OrderStatus.PENDING
+                : roll < 50 ? Order.OrderStatus.PAID
+                : roll < 70 ? Order.OrderStatus.PREPARING
+                : Order.OrderStatus.SHIPPING;
+    }
+
+    /** 관리자 계정 (ID = 회원 수 + 1), BCrypt 해시는 일반 회원과 별도로 계산 */
+    private void insertAdmin() {
+        long id = members + 1;
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update(MEMBER_SQL, id, "admin@shop.com", passwordEncoder.encode("admin123"), "관리자",
+                    "010-0000-0000", "서울시 강남구 테헤란로 123", "ROLE_ADMIN", timestamp(start));
+            jdbcTemplate.update(CART_SQL, id, id);
+        });
+    }
+
+    /** 1~count 사이 ID, 작은 ID일수록 자주 선택 */
+    private static long skewed(SplittableRandom random, long count) {
+        double u = random.nextDouble();
+        return 1 + (long) (u * u * count);
+    }
+
+    private long[] distinctProducts(SplittableRandom random, int count) {
+        long[] ids = new long[count];
+        for (int i = 0; i < count; i++) {
+            long candidate;
+            do {
+                candidate = skewed(random, products);
+            } while (contains(ids, i, candidate));
+            ids[i] = candidate;
+        }
+        return ids;
+    }
+
+    private static boolean contains(long[] ids, int length, long value) {
+        for (int i = 0; i < length; i++) {
+            if (ids[i] == value) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** 주문상품 가격이 상품 가격과 일치하도록 상품 ID만으로 계산 (1,000 ~ 약 500,000원, 100원 단위) */
+    private int price(long productId) {
+        double u = random(PRODUCT, productId).nextDouble();
+        return (int) (Math.exp(Math.log(1_000) + u * Math.log(500)) / 100) * 100;
+    }
+
+    private String memberName(long memberId) {
+        long hash = mix(seed, MEMBER, memberId);
+        return SURNAMES[(int) Math.floorMod(hash, SURNAMES.length)] + GIVEN_NAMES[(int) Math.floorMod(hash >>> 16, GIVEN_NAMES.length)];
+    }
+
+    private static String memberPhone(long memberId) {
+        return String.format("010-%04d-%04d", memberId / 10_000 % 10_000, memberId % 10_000);
+    }
+
+    private String memberAddress(long memberId) {
+        long hash = mix(seed, MEMBER, memberId);
+        return DISTRICTS[(int) Math.floorMod(hash >>> 32, DISTRICTS.length)] + " 테스트로 " + (1 + memberId % 999) + "길";
+    }
+
+    private SplittableRandom random(long table, long id) {
+        return new SplittableRandom(mix(seed, table, id));
+    }
+
+    private static long mix(long seed, long table, long id) {
+        long h = seed * 0x9E3779B97F4A7C15L + table * 0xC2B2AE3D27D4EB4FL + id;
+        h = (h ^ (h >>> 33)) * 0xFF51AFD7ED558CCDL;
+        h = (h ^ (h >>> 33)) * 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    private static Timestamp timestamp(LocalDateTime dateTime) {
+        return Timestamp.valueOf(dateTime);
+    }
+
+    /** 한 배치에서 넣을 행: 테이블(SQL)별로 모아 JDBC 배치로 실행 (SQL은 외래 키 순서대로 추가) */
+    private class Batch {
+
+        private final Map<String, List<Object[]>> rows = new LinkedHashMap<>();
+
+        void add(String sql, Object... values) {
+            rows.computeIfAbsent(sql, k -> new ArrayList<>(batchSize)).add(values);
+        }
+
+        int execute() {
+            int count = 0;
+            for (var entry : rows.entrySet()) {
+                jdbcTemplate.batchUpdate(entry.getKey(), entry.getValue());
+                count += entry.getValue().size();
+            }
+            return count;
+        }
+    }
+}
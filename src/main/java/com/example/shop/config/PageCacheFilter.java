@@ -0,0 +1,273 @@
+package com.example.shop.config;
+
+import com.example.shop.domain.product.event.ProductChangedEvent;
+import com.example.shop.domain.product.event.ProductsImportedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AuthenticationTrustResolver;
+import org.springframework.security.authentication.AuthenticationTrustResolverImpl;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.support.SessionFlashMapManager;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 비로그인 사용자의 메인(/)과 상품 목록(/products) GET 응답 캐시.
+ * 렌더링된 HTML과 gzip 압축본을 경로와 그 화면이 읽는 쿼리 파라미터별로 보관하고 ETag/Last-Modified로 304를 응답한다.
+ * 로그인 사용자는 항상 새로 렌더링하고, 상품 등록/수정/삭제 커밋 시 전체 무효화한다 (재고 표시는 TTL 만큼 지연될 수 있음).
+ * Spring Security 필터 체인 이후에 실행되어 인증 여부를 판단한다.
+ */
+@Component
+public class PageCacheFilter extends OncePerRequestFilter {
+
+    /** 캐시 대상 경로 → 그 화면이 읽는 쿼리 파라미터 (그 밖의 파라미터는 키에 넣지 않는다) */
+    private static final Map<String, Set<String>> CACHEABLE_PATHS = Map.of(
+            "/", Set.of(),
+            "/products", Set.of("keyword", "category", "minPrice", "maxPrice", "page", "size"));
+    private static final String FLASH_MAPS_ATTRIBUTE = SessionFlashMapManager.class.getName() + ".FLASH_MAPS";
+    private static final byte[] CSRF_MARKER = "name=\"_csrf\"".getBytes(StandardCharsets.UTF_8);
+
+    private final Cache<PageKey, CachedPage> cache;
+    private final AuthenticationTrustResolver trustResolver = new AuthenticationTrustResolverImpl();
+
+    /** 무효화 세대: 렌더링 도중 무효화가 일어나면 해당 결과를 캐시에 남기지 않는다 */
+    private final AtomicLong generation = new AtomicLong();
+
+    /** 초기 데이터 적재 전 렌더링 결과가 캐시되지 않도록 기동 완료 후에만 동작 */
+    private volatile boolean ready;
+
+    public PageCacheFilter(@Value("${shop.page-cache.max-size:500}") long maxSize,
+                           @Value("${shop.page-cache.ttl:PT30S}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        ready = true;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !"GET".equals(request.getMethod()) || !CACHEABLE_PATHS.containsKey(path(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!ready || !isAnonymous() || hasFlashAttributes(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        PageKey key = PageKey.of(path(request), request);
+        CachedPage page = cache.getIfPresent(key);
+        if (page != null) {
+            write(page, request, response);
+            return;
+        }
+
+        long stamp = generation.get();
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+
+        byte[] body = wrapper.getContentAsByteArray();
+        if (isCacheable(wrapper, body)) {
+            page = CachedPage.of(body, wrapper.getContentType());
+            cache.put(key, page);
+            if (generation.get() != stamp) {
+                cache.invalidate(key);
+            }
+            writeValidators(page, page.etag(), wrapper);
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    private boolean isAnonymous() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication == null || trustResolver.isAnonymous(authentication);
+    }
+
+    /** 리다이렉트 직후 알림 메시지가 있는 요청은 캐시하지 않는다 */
+    private static boolean hasFlashAttributes(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session == null) {
+            return false;
+        }
+        Object flashMaps = session.getAttribute(FLASH_MAPS_ATTRIBUTE);
+        return flashMaps instanceof Collection<?> maps && !maps.isEmpty();
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    /** 세션별 CSRF 토큰이 포함된 페이지는 공유하면 안 되므로 제외 */
+    private static boolean isCacheable(ContentCachingResponseWrapper response, byte[] body) {
+        String contentType = response.getContentType();
+        return response.getStatus() == HttpServletResponse.SC_OK
+                && contentType != null
+                && MediaType.TEXT_HTML.isCompatibleWith(MediaType.parseMediaType(contentType))
+                && body.length > 0
+                && indexOf(body, CSRF_MARKER) < 0;
+    }
+
+    private static void write(CachedPage page, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        boolean gzip = acceptsGzip(request);
+        String etag = gzip ? page.gzipEtag() : page.etag();
+
+        if (isNotModified(page, request)) {
+            writeValidators(page, etag, response);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        byte[] body = gzip ? page.gzipBody() : page.body();
+        writeValidators(page, etag, response);
+        response.setContentType(page.contentType());
+        response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        response.setContentLength(body.length);
+        response.getOutputStream().write(body);
+    }
+
+    private static void writeValidators(CachedPage page, String etag, HttpServletResponse response) {
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setDateHeader(HttpHeaders.LAST_MODIFIED, page.lastModified());
+        // 매번 재검증: 로그인 후에는 같은 URL이라도 새로 렌더링되어야 한다
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "no-cache");
+    }
+
+    private static boolean isNotModified(CachedPage page, HttpServletRequest request) {
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null) {
+            for (String tag : ifNoneMatch.split(",")) {
+                String candidate = tag.trim();
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if (candidate.equals("*") || candidate.equals(page.etag()) || candidate.equals(page.gzipEtag())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        try {
+            long ifModifiedSince = request.getDateHeader(HttpHeaders.IF_MODIFIED_SINCE);
+            return ifModifiedSince >= 0 && ifModifiedSince >= page.lastModified();
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private static boolean acceptsGzip(HttpServletRequest request) {
+        Enumeration<String> values = request.getHeaders(HttpHeaders.ACCEPT_ENCODING);
+        while (values.hasMoreElements()) {
+            if (values.nextElement().toLowerCase(Locale.ROOT).contains("gzip")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static int indexOf(byte[] data, byte[] pattern) {
+        outer:
+        for (int i = 0; i <= data.length - pattern.length; i++) {
+            for (int j = 0; j < pattern.length; j++) {
+                if (data[i + j] != pattern[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        return -1;
+    }
+
+    /**
+     * 캐시 키: 문자열로 이어 붙이지 않고 파라미터 이름별 값 목록을 그대로 비교하므로
+     * 값에 '&'나 '='가 들어 있어도 다른 요청과 겹치지 않는다. 값 순서는 바인딩 결과(쉼표로 합침)에 영향을 주므로 유지한다.
+     */
+    private record PageKey(String path, SortedMap<String, List<String>> params) {
+
+        static PageKey of(String path, HttpServletRequest request) {
+            SortedMap<String, List<String>> params = new TreeMap<>();
+            for (String name : CACHEABLE_PATHS.get(path)) {
+                String[] values = request.getParameterValues(name);
+                if (values != null) {
+                    params.put(name, List.of(values));
+                }
+            }
+            return new PageKey(path, params);
+        }
+    }
+
+    private record CachedPage(byte[] body, byte[] gzipBody, String contentType, String etag, String gzipEtag,
+                              long lastModified) {
+
+        static CachedPage of(byte[] body, String contentType) {
+            String hash = sha256Hex(body).substring(0, 32);
+            // Last-Modified는 초 단위이므로 생성 시각을 초로 내림
+            long lastModified = System.currentTimeMillis() / 1000 * 1000;
+            return new CachedPage(body, gzip(body), contentType, "\"" + hash + "\"", "\"" + hash + "-gz\"", lastModified);
+        }
+
+        private static byte[] gzip(byte[] body) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 4);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+                gzip.write(body);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return out.toByteArray();
+        }
+
+        private static String sha256Hex(byte[] body) {
+            try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
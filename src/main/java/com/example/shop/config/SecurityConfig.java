@@ -1,27 +1,64 @@
 package com.example.shop.config;
 
-import com.example.shop.config.security.CustomUserDetailsService;
-import lombok.RequiredArgsConstructor;
+import com.example.shop.config.security.BoundedPasswordEncoder;
+import com.example.shop.config.security.PasswordHashingBusyException;
+import com.example.shop.config.security.PasswordHashingMetrics;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.AuthenticationFailureHandler;
+import org.springframework.security.web.authentication.ExceptionMappingAuthenticationFailureHandler;
+
+import java.time.Duration;
+import java.util.Map;
 
 @Configuration
 @EnableWebSecurity
-@RequiredArgsConstructor
 public class SecurityConfig {
 
-    private final CustomUserDetailsService userDetailsService;
+    /**
+     * BCrypt 해시는 전용 스레드 풀에서 실행 (threads 0 = CPU 코어의 절반, 최소 1).
+     * strength를 올리면 기존 회원은 다음 로그인 성공 시 새 강도로 다시 해시된다.
+     */
+    @Bean(destroyMethod = "shutdown")
+    public BoundedPasswordEncoder passwordEncoder(PasswordHashingMetrics metrics,
+                                                  @Value("${shop.security.bcrypt.strength:10}") int strength,
+                                                  @Value("${shop.security.hashing.threads:0}") int threads,
+                                                  @Value("${shop.security.hashing.queue-capacity:32}") int queueCapacity,
+                                                  @Value("${shop.security.hashing.max-wait:PT2S}") Duration maxWait) {
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), metrics, poolSize, queueCapacity, maxWait);
+    }
 
+    /** 운영 지표(/admin/actuator/**): Prometheus 수집기를 위해 세션 없이 HTTP Basic으로 ADMIN만 허용 */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Order(1)
+    public SecurityFilterChain actuatorFilterChain(HttpSecurity http) throws Exception {
+        http
+            .securityMatcher(EndpointRequest.toAnyEndpoint())
+            .authorizeHttpRequests(auth -> auth.anyRequest().hasRole("ADMIN"))
+            .httpBasic(basic -> basic.authenticationEntryPoint(basicChallenge()))
+            .exceptionHandling(ex -> ex.authenticationEntryPoint(basicChallenge()))
+            .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+            .csrf(csrf -> csrf.disable());
+
+        return http.build();
     }
 
+    /**
+     * 인증은 CustomUserDetailsService 빈으로 구성되는 전역 AuthenticationManager 하나가 담당한다.
+     * 여기서 userDetailsService를 다시 지정하면 실패한 로그인이 두 provider에서 각각 해시된다.
+     */
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -45,7 +82,7 @@ public class SecurityConfig {
                 .usernameParameter("username")
                 .passwordParameter("password")
                 .defaultSuccessUrl("/", true)
-                .failureUrl("/member/login?error")
+                .failureHandler(loginFailureHandler())
                 .permitAll()
             )
             .logout(logout -> logout
@@ -55,7 +92,6 @@ public class SecurityConfig {
                 .deleteCookies("JSESSIONID")
                 .permitAll()
             )
-            .userDetailsService(userDetailsService)
             // H2 콘솔 사용을 위한 설정
             .csrf(csrf -> csrf
                 .ignoringRequestMatchers("/h2-console/**")
@@ -66,4 +102,20 @@ public class SecurityConfig {
 
         return http.build();
     }
+
+    /** sendError 대신 상태 코드만 설정: /error 재요청이 폼 로그인 체인에서 로그인 페이지로 리다이렉트되지 않도록 */
+    private static AuthenticationEntryPoint basicChallenge() {
+        return (request, response, authException) -> {
+            response.setHeader(HttpHeaders.WWW_AUTHENTICATE, "Basic realm=\"shop\"");
+            response.setStatus(HttpServletResponse.SC_UNAUTHORIZED);
+        };
+    }
+
+    /** 해시 대기열 초과로 거절된 로그인은 비밀번호 오류와 구분하여 안내 */
+    private AuthenticationFailureHandler loginFailureHandler() {
+        ExceptionMappingAuthenticationFailureHandler handler = new ExceptionMappingAuthenticationFailureHandler();
+        handler.setDefaultFailureUrl("/member/login?error");
+        handler.setExceptionMappings(Map.of(PasswordHashingBusyException.class.getName(), "/member/login?busy"));
+        return handler;
+    }
 }
@@ -0,0 +1,75 @@
+package com.example.shop.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * IDENTITY → SEQUENCE 전환 마이그레이션 (H2).
+ * 기존 데이터가 있는 DB(dev 파일 DB 등)에서 새로 생성된 시퀀스가 1부터 시작하면 PK가 충돌하므로,
+ * 애플리케이션 시작 시 각 시퀀스를 테이블의 MAX(id) 이후로 재시작한다. 이미 앞서 있으면 건드리지 않는다.
+ * ID를 직접 지정해 넣는 LoadTestDataInitializer 다음에 실행된다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class SequenceSynchronizer implements ApplicationRunner {
+
+    /** 엔티티 @SequenceGenerator의 allocationSize와 동일해야 함 */
+    private static final int ALLOCATION_SIZE = 50;
+
+    /** 테이블명 → 시퀀스명 */
+    private static final Map<String, String> SEQUENCES = Map.of(
+            "member", "member_seq",
+            "product", "product_seq",
+            "cart", "cart_seq",
+            "cart_item", "cart_item_seq",
+            "orders", "orders_seq",
+            "order_item", "order_item_seq",
+            "payment", "payment_seq",
+            "delivery", "delivery_seq",
+            "outbox_event", "outbox_event_seq"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) throws Exception {
+        String database = JdbcUtils.extractDatabaseMetaData(jdbcTemplate.getDataSource(),
+                DatabaseMetaData::getDatabaseProductName);
+        if (!"H2".equalsIgnoreCase(database)) {
+            log.info("시퀀스 동기화는 H2에서만 수행합니다 (현재: {}). db/sequence-migration.sql을 참고하세요.", database);
+            return;
+        }
+
+        SEQUENCES.forEach(this::synchronize);
+    }
+
+    private void synchronize(String table, String sequence) {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        List<Long> nextValue = jdbcTemplate.queryForList(
+                "SELECT BASE_VALUE FROM INFORMATION_SCHEMA.SEQUENCES WHERE SEQUENCE_NAME = ?",
+                Long.class, sequence.toUpperCase());
+        if (maxId == null || maxId == 0 || nextValue.isEmpty()) {
+            return;
+        }
+
+        // pooled 옵티마이저는 시퀀스 값 v에 대해 (v - allocationSize, v] 구간을 사용
+        if (nextValue.get(0) - ALLOCATION_SIZE < maxId) {
+            long restartWith = maxId + ALLOCATION_SIZE;
+            jdbcTemplate.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + restartWith);
+            log.info("시퀀스 {} 재시작: {} (MAX(id)={})", sequence, restartWith, maxId);
+        }
+    }
+}
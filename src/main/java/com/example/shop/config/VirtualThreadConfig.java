@@ -0,0 +1,47 @@
+package com.example.shop.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true).
+ * Spring Boot가 Tomcat 요청 처리, @Async, @Scheduled 실행기를 가상 스레드로 바꾸고,
+ * 여기서는 동시 요청 수에 상한이 없어진 만큼 커넥션 풀 앞에 풀 크기와 같은 동시 사용 제한을 둔다.
+ * 대기 시간 상한은 풀의 connectionTimeout을 그대로 따른다.
+ */
+@Slf4j
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    /** maximum-pool-size를 지정하지 않으면 풀이 시작될 때 정해지는 HikariCP 기본값 */
+    private static final int HIKARI_DEFAULT_POOL_SIZE = 10;
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                // SQL 모니터링 후처리기가 먼저 감쌌어도 안쪽의 풀을 찾아 제한한다
+                if (bean instanceof DataSource dataSource && !(bean instanceof ConnectionLimitingDataSource)) {
+                    HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariDataSource.class);
+                    if (hikari != null) {
+                        int poolSize = hikari.getMaximumPoolSize() > 0 ? hikari.getMaximumPoolSize() : HIKARI_DEFAULT_POOL_SIZE;
+                        log.info("가상 스레드 모드: 동시 커넥션 사용을 {}개로 제한", poolSize);
+                        return new ConnectionLimitingDataSource(dataSource, poolSize, Duration.ofMillis(hikari.getConnectionTimeout()));
+                    }
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.shop.config.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주요 서비스(주문/재고/장바구니/상품/배송/회원) public 메서드 실행 시간(shop.service)과 예외 건수(shop.service.errors).
+ * 트랜잭션 프록시보다 바깥에서 재므로 커밋 시간까지 포함한다.
+ * 메서드별 Timer는 처음 호출 때 한 번만 만들어 두고, 예외 카운터만 예외 종류별로 조회한다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class ServiceMetricsAspect {
+
+    private final MeterRegistry registry;
+    private final Map<Method, Timer> timers = new ConcurrentHashMap<>();
+
+    public ServiceMetricsAspect(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Around("execution(public * *(..)) && ("
+            + "within(com.example.shop.domain.order.service.OrderService)"
+            + " || within(com.example.shop.domain.product.service.StockService)"
+            + " || within(com.example.shop.domain.cart.service.CartService)"
+            + " || within(com.example.shop.domain.product.service.ProductService)"
+            + " || within(com.example.shop.domain.delivery.service.DeliveryService)"
+            + " || within(com.example.shop.domain.member.service.MemberService))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        long start = System.nanoTime();
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            registry.counter("shop.service.errors",
+                    "class", method.getDeclaringClass().getSimpleName(),
+                    "method", method.getName(),
+                    "exception", e.getClass().getSimpleName()).increment();
+            throw e;
+        } finally {
+            timers.computeIfAbsent(method, this::timer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private Timer timer(Method method) {
+        return Timer.builder("shop.service")
+                .description("서비스 메서드 실행 시간")
+                .tag("class", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .register(registry);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.shop.config.metrics;
+
+import com.example.shop.admin.service.DashboardStatisticsService;
+import com.example.shop.config.ConnectionLimitingDataSource;
+import com.example.shop.config.security.PasswordHashingMetrics;
+import com.example.shop.domain.order.entity.Order;
+import com.example.shop.domain.outbox.service.OutboxMetrics;
+import com.example.shop.domain.product.service.ProductCache;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * 애플리케이션이 이미 메모리에 들고 있는 지표(상품 캐시, 아웃박스, 로그인/해시, 대시보드 카운터)를 Micrometer에 연결한다.
+ * 모두 조회 시점에 값을 읽는 함수형 미터이므로 요청 처리 경로에는 추가 비용이 없다.
+ * 비밀번호 해시 시간과 대기 시간은 히스토그램이 필요하므로 PasswordHashingMetrics가 Timer로 직접 등록한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ShopMeterBinder implements MeterBinder {
+
+    private final ProductCache productCache;
+    private final OutboxMetrics outboxMetrics;
+    private final PasswordHashingMetrics passwordHashingMetrics;
+    private final DashboardStatisticsService statistics;
+    private final DataSource dataSource;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindProductCache(registry);
+        bindOutbox(registry);
+        bindLogin(registry);
+        bindStatistics(registry);
+        ConnectionLimitingDataSource limiter = DataSourceUnwrapper.unwrap(dataSource, ConnectionLimitingDataSource.class);
+        if (limiter != null) {
+            Gauge.builder("shop.datasource.limiter.waiting", limiter, ConnectionLimitingDataSource::getQueueLength)
+                    .description("커넥션 허가를 기다리는 스레드 수")
+                    .register(registry);
+            Gauge.builder("shop.datasource.limiter.available", limiter, ConnectionLimitingDataSource::getAvailablePermits)
+                    .register(registry);
+        }
+    }
+
+    private void bindProductCache(MeterRegistry registry) {
+        FunctionCounter.builder("shop.product.cache.requests", productCache, cache -> cache.stats().hitCount())
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("shop.product.cache.requests", productCache, cache -> cache.stats().missCount())
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("shop.product.cache.evictions", productCache, cache -> cache.stats().evictionCount())
+                .register(registry);
+        Gauge.builder("shop.product.cache.size", productCache, ProductCache::size)
+                .register(registry);
+    }
+
+    private void bindOutbox(MeterRegistry registry) {
+        FunctionCounter.builder("shop.outbox.events", outboxMetrics, OutboxMetrics::getProcessed)
+                .tag("result", "processed")
+                .register(registry);
+        FunctionCounter.builder("shop.outbox.events", outboxMetrics, OutboxMetrics::getFailed)
+                .tag("result", "failed")
+                .register(registry);
+        FunctionCounter.builder("shop.outbox.events", outboxMetrics, OutboxMetrics::getDead)
+                .tag("result", "dead")
+                .register(registry);
+        Gauge.builder("shop.outbox.lag", outboxMetrics, OutboxMetrics::getLastLagMillis)
+                .baseUnit("milliseconds")
+                .register(registry);
+    }
+
+    private void bindLogin(MeterRegistry registry) {
+        FunctionCounter.builder("shop.login", passwordHashingMetrics, PasswordHashingMetrics::getLoginSucceeded)
+                .tag("result", "success")
+                .register(registry);
+        FunctionCounter.builder("shop.login", passwordHashingMetrics, PasswordHashingMetrics::getLoginFailed)
+                .tag("result", "failure")
+                .register(registry);
+        FunctionCounter.builder("shop.password.hash.rejected", passwordHashingMetrics, PasswordHashingMetrics::getRejected)
+                .register(registry);
+        FunctionCounter.builder("shop.password.upgrades", passwordHashingMetrics, PasswordHashingMetrics::getUpgraded)
+                .register(registry);
+    }
+
+    private void bindStatistics(MeterRegistry registry) {
+        Gauge.builder("shop.members", statistics, DashboardStatisticsService::getTotalMembers)
+                .register(registry);
+        Gauge.builder("shop.products", statistics, DashboardStatisticsService::getTotalProducts)
+                .register(registry);
+        for (Order.OrderStatus status : Order.OrderStatus.values()) {
+            Gauge.builder("shop.orders", statistics, s -> s.countOrders(status))
+                    .tag("status", status.name())
+                    .register(registry);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.shop.config.security;
+
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 해시 계산을 전용 스레드 풀에서 실행하는 PasswordEncoder.
+ * 동시에 계산하는 해시 수를 스레드 수로 제한하고, 대기열이 가득 차거나 대기열에서 최대 대기 시간을 넘기면 거절하여
+ * 로그인 폭주(크리덴셜 스터핑 등) 중에도 CPU와 Tomcat 스레드가 해시 계산에 모두 묶이지 않게 한다.
+ * upgradeEncoding은 해시 계산이 없으므로 위임 대상에 바로 묻는다 (BCrypt는 저장된 강도가 설정보다 낮으면 true).
+ */
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingMetrics metrics;
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitNanos;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, PasswordHashingMetrics metrics,
+                                  int threads, int queueCapacity, Duration maxWait) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                Thread.ofPlatform().name("password-hash-", 1).daemon().factory());
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * 요청 스레드는 결과만 기다린다. 최대 대기 시간은 대기열에 머문 시간에만 적용하며,
+     * 그 안에 시작하지 못한 작업은 대기열에서 빼고 거절한다 (이미 시작한 해시는 끝까지 기다림).
+     */
+    private <T> T execute(Supplier<T> hash) {
+        HashTask<T> task = new HashTask<>(hash);
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            metrics.recordRejected();
+            throw new PasswordHashingBusyException();
+        }
+
+        try {
+            try {
+                return task.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                if (task.abandon()) {
+                    executor.remove(task);
+                    metrics.recordRejected();
+                    throw new PasswordHashingBusyException();
+                }
+                return task.get();
+            }
+        } catch (InterruptedException e) {
+            task.abandon();
+            executor.remove(task);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingBusyException();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /** 시작과 포기 중 먼저 일어난 쪽만 유효하도록 상태를 한 번만 바꾼다 */
+    private class HashTask<T> extends FutureTask<T> {
+
+        private static final int QUEUED = 0;
+        private static final int STARTED = 1;
+        private static final int ABANDONED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(QUEUED);
+        private final long submittedAt = System.nanoTime();
+
+        HashTask(Supplier<T> hash) {
+            super(hash::get);
+        }
+
+        @Override
+        public void run() {
+            if (!state.compareAndSet(QUEUED, STARTED)) {
+                return;
+            }
+            long startedAt = System.nanoTime();
+            metrics.recordQueueWait(startedAt - submittedAt);
+            try {
+                super.run();
+            } finally {
+                metrics.recordHash(System.nanoTime() - startedAt);
+            }
+        }
+
+        boolean abandon() {
+            return state.compareAndSet(QUEUED, ABANDONED) && cancel(false);
+        }
+    }
+}
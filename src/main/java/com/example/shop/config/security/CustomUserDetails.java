@@ -2,6 +2,7 @@ package com.example.shop.config.security;
 
 import com.example.shop.domain.member.entity.Member;
 import lombok.Getter;
+import org.springframework.security.core.CredentialsContainer;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -9,28 +10,47 @@ import org.springframework.security.core.userdetails.UserDetails;
 import java.util.Collection;
 import java.util.Collections;
 
+/**
+ * 로그인 사용자: 세션에 저장되므로 JPA 엔티티 대신 식별 정보만 갖는 불변 객체.
+ * 비밀번호 해시는 인증 직후 지워진다. 회원 상세가 필요하면 memberId로 조회한다.
+ */
 @Getter
-public class CustomUserDetails implements UserDetails {
+public class CustomUserDetails implements UserDetails, CredentialsContainer {
 
-    private final Member member;
+    private static final long serialVersionUID = 1L;
 
-    public CustomUserDetails(Member member) {
-        this.member = member;
+    private final Long memberId;
+    private final String email;
+    private final String name;
+    private final Member.Role role;
+    private String password;
+
+    public CustomUserDetails(Long memberId, String email, String name, Member.Role role, String password) {
+        this.memberId = memberId;
+        this.email = email;
+        this.name = name;
+        this.role = role;
+        this.password = password;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return Collections.singletonList(new SimpleGrantedAuthority(member.getRole().name()));
+        return Collections.singletonList(new SimpleGrantedAuthority(role.name()));
     }
 
     @Override
     public String getPassword() {
-        return member.getPassword();
+        return password;
     }
 
     @Override
     public String getUsername() {
-        return member.getEmail();
+        return email;
+    }
+
+    @Override
+    public void eraseCredentials() {
+        this.password = null;
     }
 
     @Override
@@ -1,24 +1,96 @@
 package com.example.shop.config.security;
 
 import com.example.shop.domain.member.entity.Member;
+import com.example.shop.domain.member.event.MemberChangedEvent;
 import com.example.shop.domain.member.repository.MemberRepository;
-import lombok.RequiredArgsConstructor;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 로그인 사용자 조회: 이메일별 계정 스냅샷을 캐시하여 재로그인 시 회원 조회를 생략한다.
+ * 인증 후 비밀번호가 지워지므로 캐시에는 스냅샷을 두고 매번 새 CustomUserDetails를 만든다.
+ * 회원 정보 변경 커밋 시 해당 이메일을 무효화하고, 그 사이에 읽은 이전 스냅샷은 세대 확인으로 캐시에 남기지 않는다.
+ * 저장된 해시 강도가 설정보다 낮으면 로그인 성공 직후 Spring Security가 updatePassword로 새 해시를 저장한다.
+ */
 @Service
-@RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final MemberRepository memberRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PasswordHashingMetrics metrics;
+    private final Cache<String, Account> cache;
+
+    /** 무효화 세대: 조회 도중 회원 정보 변경이 커밋되면 해당 결과를 캐시에 남기지 않는다 */
+    private final AtomicLong generation = new AtomicLong();
+
+    public CustomUserDetailsService(MemberRepository memberRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    PasswordHashingMetrics metrics,
+                                    @Value("${shop.security.user-cache.max-size:10000}") long maxSize,
+                                    @Value("${shop.security.user-cache.ttl:PT10M}") Duration ttl) {
+        this.memberRepository = memberRepository;
+        this.eventPublisher = eventPublisher;
+        this.metrics = metrics;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Member member = memberRepository.findByEmail(username)
-                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
+        Account account = cache.getIfPresent(username);
+        if (account == null) {
+            long stamp = generation.get();
+            Member member = memberRepository.findByEmail(username)
+                    .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + username));
+            account = Account.from(member);
+            cache.put(username, account);
+            if (generation.get() != stamp) {
+                cache.invalidate(username);
+            }
+        }
+        return account.toUserDetails();
+    }
+
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        Member member = memberRepository.findByEmail(user.getUsername())
+                .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + user.getUsername()));
+        member.setPassword(newPassword);
+        metrics.recordUpgraded();
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getEmail()));
+        return Account.from(member).toUserDetails();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        generation.incrementAndGet();
+        cache.invalidate(event.getEmail());
+    }
+
+    private record Account(Long memberId, String email, String name, Member.Role role, String password) {
+
+        static Account from(Member member) {
+            return new Account(member.getId(), member.getEmail(), member.getName(), member.getRole(), member.getPassword());
+        }
 
-        return new CustomUserDetails(member);
+        CustomUserDetails toUserDetails() {
+            return new CustomUserDetails(memberId, email, name, role, password);
+        }
     }
 }
@@ -0,0 +1,14 @@
+package com.example.shop.config.security;
+
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * 비밀번호 해시 대기열이 가득 찼거나 대기 시간을 넘겨 거절됨.
+ * 로그인에서는 인증 실패로 처리되도록 AuthenticationException 계열로 둔다.
+ */
+public class PasswordHashingBusyException extends AuthenticationServiceException {
+
+    public PasswordHashingBusyException() {
+        super("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.shop.config.security;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.event.AbstractAuthenticationFailureEvent;
+import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 로그인 처리량(성공/실패/거절 누적 건수)과 비밀번호 해시 시간·대기열 대기 시간 분포.
+ * 두 시간 분포는 Micrometer Timer로 기록해 Prometheus에 히스토그램 버킷으로 내보내고, 관리자 대시보드도 같은 Timer를 읽는다.
+ */
+@Component
+public class PasswordHashingMetrics {
+
+    private final Timer hashTime;
+    private final Timer queueWait;
+    private final LongAdder loginSucceeded = new LongAdder();
+    private final LongAdder loginFailed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder upgraded = new LongAdder();
+
+    public PasswordHashingMetrics(MeterRegistry registry) {
+        this.hashTime = timer("shop.password.hash", "비밀번호 해시 계산 시간", registry);
+        this.queueWait = timer("shop.password.hash.queue", "해시 스레드 풀 대기열에서 기다린 시간", registry);
+    }
+
+    /** 버킷은 Prometheus로, p50/p99는 대시보드용으로 함께 기록 */
+    private static Timer timer(String name, String description, MeterRegistry registry) {
+        return Timer.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .publishPercentiles(0.5, 0.99)
+                .register(registry);
+    }
+
+    @EventListener
+    public void onLoginSucceeded(AuthenticationSuccessEvent event) {
+        loginSucceeded.increment();
+    }
+
+    @EventListener
+    public void onLoginFailed(AbstractAuthenticationFailureEvent event) {
+        loginFailed.increment();
+    }
+
+    void recordHash(long nanos) {
+        hashTime.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordQueueWait(long nanos) {
+        queueWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordRejected() {
+        rejected.increment();
+    }
+
+    void recordUpgraded() {
+        upgraded.increment();
+    }
+
+    public Latency getHashTime() {
+        return Latency.of(hashTime);
+    }
+
+    public Latency getQueueWait() {
+        return Latency.of(queueWait);
+    }
+
+    public long getLoginSucceeded() {
+        return loginSucceeded.sum();
+    }
+
+    public long getLoginFailed() {
+        return loginFailed.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public long getUpgraded() {
+        return upgraded.sum();
+    }
+
+    /** 대시보드용 Timer 스냅샷: 건수는 누적, 백분위와 최대값은 Micrometer의 최근 구간(기본 2분) 기준 */
+    public static class Latency {
+
+        private final long count;
+        private final long p50Millis;
+        private final long p99Millis;
+        private final long maxMillis;
+
+        private Latency(long count, long p50Millis, long p99Millis, long maxMillis) {
+            this.count = count;
+            this.p50Millis = p50Millis;
+            this.p99Millis = p99Millis;
+            this.maxMillis = maxMillis;
+        }
+
+        static Latency of(Timer timer) {
+            HistogramSnapshot snapshot = timer.takeSnapshot();
+            return new Latency(snapshot.count(), percentileMillis(snapshot, 0.5), percentileMillis(snapshot, 0.99),
+                    (long) snapshot.max(TimeUnit.MILLISECONDS));
+        }
+
+        private static long percentileMillis(HistogramSnapshot snapshot, double percentile) {
+            for (ValueAtPercentile value : snapshot.percentileValues()) {
+                if (value.percentile() == percentile) {
+                    return (long) value.value(TimeUnit.MILLISECONDS);
+                }
+            }
+            return 0;
+        }
+
+        public long getCount() {
+            return count;
+        }
+
+        public long getP50Millis() {
+            return p50Millis;
+        }
+
+        public long getP99Millis() {
+            return p99Millis;
+        }
+
+        public long getMaxMillis() {
+            return maxMillis;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.shop.config.sql;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+/**
+ * 실행되는 SQL 문을 현재 스레드의 SqlScope에 기록하는 DataSource.
+ * PreparedStatement/CallableStatement는 준비 시점(Hibernate, JdbcTemplate 모두 실행마다 준비, 배치는 한 번)에,
+ * 일반 Statement는 실행 시점에 센다. 범위가 열려 있지 않을 때 받은 커넥션은 감싸지 않는다.
+ */
+public class QueryCountingDataSource extends DelegatingDataSource {
+
+    public QueryCountingDataSource(DataSource target) {
+        super(target);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return counting(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return counting(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private static Connection counting(Connection target) {
+        if (!SqlScope.isActive()) {
+            return target;
+        }
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (("prepareStatement".equals(name) || "prepareCall".equals(name)) && args[0] instanceof String sql) {
+                        SqlScope.record(sql);
+                    }
+                    Object result = invoke(target, method, args);
+                    return "createStatement".equals(name) ? counting((Statement) result) : result;
+                });
+    }
+
+    private static Statement counting(Statement target) {
+        return (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(), new Class<?>[]{Statement.class},
+                (proxy, method, args) -> {
+                    if (method.getName().startsWith("execute") && args != null && args.length > 0 && args[0] instanceof String sql) {
+                        SqlScope.record(sql);
+                    }
+                    return invoke(target, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.shop.config.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** 요청 밖에서 도는 @Scheduled 작업(아웃박스, 장바구니 저장, 통계 보정)도 실행 한 번을 SqlScope로 묶어 N+1을 감지한다 */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "shop.sql.monitoring.enabled", havingValue = "true", matchIfMissing = true)
+public class ScheduledSqlScopeAspect {
+
+    private final MeterRegistry registry;
+    private final int repeatThreshold;
+    private final Map<Method, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public ScheduledSqlScopeAspect(MeterRegistry registry,
+                                   @Value("${shop.sql.repeat-threshold:10}") int repeatThreshold) {
+        this.registry = registry;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Around("@annotation(org.springframework.scheduling.annotation.Scheduled)")
+    public Object scope(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        SqlScope scope = SqlScope.open(name(method), repeatThreshold);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            scope.close();
+            summaries.computeIfAbsent(method, m -> DistributionSummary.builder("shop.sql.statements")
+                    .description("요청/스케줄 작업 한 번에 실행된 SQL 문 수")
+                    .tag("scope", name(m))
+                    .register(registry)).record(scope.getStatementCount());
+        }
+    }
+
+    private static String name(Method method) {
+        return method.getDeclaringClass().getSimpleName() + "#" + method.getName();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.shop.config.sql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 핸들러 한 번 처리(인증 조회, 뷰 렌더링 포함)에 허용하는 SQL 문 수.
+ * 운영에서는 넘으면 SqlMonitoringFilter가 실행된 SQL과 함께 경고하고, 통합 테스트(SqlBudgetTest)는 넘으면 실패한다.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+
+    int value();
+}
@@ -0,0 +1,30 @@
+package com.example.shop.config.sql;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL 문 수 모니터링 (shop.sql.monitoring.enabled, 기본 사용).
+ * 애플리케이션 DataSource를 QueryCountingDataSource로 감싸고, 범위는 SqlMonitoringFilter(요청)와 ScheduledSqlScopeAspect(스케줄 작업)가 연다.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "shop.sql.monitoring.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMonitoringConfig {
+
+    @Bean
+    public static BeanPostProcessor queryCountingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof QueryCountingDataSource)) {
+                    return new QueryCountingDataSource(dataSource);
+                }
+                return bean;
+            }
+        };
+    }
+}
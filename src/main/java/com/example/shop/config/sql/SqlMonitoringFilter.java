@@ -0,0 +1,76 @@
+package com.example.shop.config.sql;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 요청마다 SqlScope를 열어 SQL 문 수를 센다 (Security 필터의 인증 조회와 뷰 렌더링 포함).
+ * 컨트롤러 핸들러 요청은 매핑 패턴별 shop.sql.statements 분포로 기록하고, 핸들러의 @SqlBudget을 넘으면 경고한다.
+ * 응답을 렌더링한 뒤에 판단하므로 요청을 실패시키지 않으며, 예산은 통합 테스트(SqlBudgetTest)에서 검증한다.
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "shop.sql.monitoring.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMonitoringFilter extends OncePerRequestFilter {
+
+    private static final String BEST_MATCHING_HANDLER_ATTRIBUTE = HandlerMapping.class.getName() + ".bestMatchingHandler";
+    private static final int LOGGED_STATEMENTS = 5;
+
+    private final MeterRegistry registry;
+    private final int repeatThreshold;
+    private final Map<String, DistributionSummary> summaries = new ConcurrentHashMap<>();
+
+    public SqlMonitoringFilter(MeterRegistry registry,
+                               @Value("${shop.sql.repeat-threshold:10}") int repeatThreshold) {
+        this.registry = registry;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlScope scope = SqlScope.open(request.getMethod() + " " + request.getRequestURI(), repeatThreshold);
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            scope.close();
+        }
+
+        if (!(request.getAttribute(BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler)) {
+            return;
+        }
+        String pattern = request.getMethod() + " " + request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        summaries.computeIfAbsent(pattern, this::summary).record(scope.getStatementCount());
+
+        SqlBudget budget = handler.getMethodAnnotation(SqlBudget.class);
+        if (budget != null && scope.getStatementCount() > budget.value()) {
+            log.warn("SQL 예산 초과: {} {}/{} ({}) 실행 SQL 상위: {}", pattern, scope.getStatementCount(), budget.value(),
+                    handler.getShortLogMessage(), scope.top(LOGGED_STATEMENTS));
+        }
+    }
+
+    private DistributionSummary summary(String pattern) {
+        return DistributionSummary.builder("shop.sql.statements")
+                .description("요청/스케줄 작업 한 번에 실행된 SQL 문 수")
+                .tag("scope", pattern)
+                .register(registry);
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.shop.config.sql;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 한 작업 단위(요청, 스케줄 작업, 테스트 코드 블록)에서 실행된 SQL 문 집계.
+ * 현재 스레드에 열린 범위가 있을 때만 QueryCountingDataSource가 SQL을 기록하고,
+ * 같은 파라미터화 SQL이 repeatThreshold번을 넘으면(N+1 의심) 애플리케이션 호출 위치와 함께 한 번 경고한다.
+ * 중첩된 범위의 SQL은 바깥 범위의 집계에도 더한다 (N+1 경고는 가장 안쪽 범위에서만).
+ *
+ * <pre>
+ * try (SqlScope scope = SqlScope.open("주문 내역", 10)) {
+ *     mockMvc.perform(get("/order/history"));   // 요청 필터가 안쪽 범위를 연다
+ *     assertThat(scope.getStatementCount()).isLessThanOrEqualTo(4);
+ * }
+ * </pre>
+ */
+@Slf4j
+public final class SqlScope implements AutoCloseable {
+
+    private static final ThreadLocal<SqlScope> CURRENT = new ThreadLocal<>();
+    private static final String APPLICATION_PACKAGE = "com.example.shop.";
+    private static final List<String> EXCLUDED_PACKAGES = List.of(SqlScope.class.getPackageName() + ".", "com.example.shop.config.metrics.");
+    private static final int CALL_SITE_DEPTH = 3;
+
+    private final String name;
+    private final int repeatThreshold;
+    private final SqlScope previous;
+    private final Map<String, Integer> counts = new HashMap<>();
+    private int statementCount;
+    private int repeatedStatements;
+
+    private SqlScope(String name, int repeatThreshold, SqlScope previous) {
+        this.name = name;
+        this.repeatThreshold = repeatThreshold;
+        this.previous = previous;
+    }
+
+    /** 현재 스레드에 범위를 연다 (중첩 시 닫을 때 바깥 범위로 돌아간다) */
+    public static SqlScope open(String name, int repeatThreshold) {
+        SqlScope scope = new SqlScope(name, repeatThreshold, CURRENT.get());
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static boolean isActive() {
+        return CURRENT.get() != null;
+    }
+
+    static void record(String sql) {
+        SqlScope scope = CURRENT.get();
+        if (scope != null) {
+            scope.add(sql);
+        }
+    }
+
+    private void add(String sql) {
+        statementCount++;
+        if (counts.merge(sql, 1, Integer::sum) == repeatThreshold + 1) {
+            repeatedStatements++;
+            log.warn("N+1 의심: [{}]에서 같은 SQL이 {}회를 넘었습니다. 호출 위치: {} SQL: {}",
+                    name, repeatThreshold, callSite(), compact(sql));
+        }
+        for (SqlScope outer = previous; outer != null; outer = outer.previous) {
+            outer.statementCount++;
+            outer.counts.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    /** 반복 임계값을 넘은 SQL 종류 수 */
+    public int getRepeatedStatements() {
+        return repeatedStatements;
+    }
+
+    public Map<String, Integer> getCounts() {
+        return Collections.unmodifiableMap(counts);
+    }
+
+    /** 실행 횟수가 많은 SQL 상위 limit개 (로그용, 공백 정리) */
+    public List<String> top(int limit) {
+        return counts.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                .limit(limit)
+                .map(e -> e.getValue() + "x " + compact(e.getKey()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void close() {
+        if (CURRENT.get() == this) {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    /** SQL을 실행시킨 애플리케이션 코드 (프록시, 모니터링/메트릭 클래스 제외) 안쪽부터 몇 단계 */
+    private static String callSite() {
+        return StackWalker.getInstance().walk(frames -> frames
+                .filter(f -> f.getClassName().startsWith(APPLICATION_PACKAGE))
+                .filter(f -> EXCLUDED_PACKAGES.stream().noneMatch(f.getClassName()::startsWith) && !f.getClassName().contains("$$"))
+                .limit(CALL_SITE_DEPTH)
+                .map(f -> f.getClassName().substring(f.getClassName().lastIndexOf('.') + 1)
+                        + "." + f.getMethodName() + ":" + f.getLineNumber())
+                .collect(Collectors.joining(" ← ")));
+    }
+
+    private static String compact(String sql) {
+        return sql.replaceAll("\\s+", " ").trim();
+    }
+}
@@ -1,17 +1,15 @@
 package com.example.shop.controller;
 
+import com.example.shop.config.sql.SqlBudget;
 import com.example.shop.domain.product.dto.ProductDto;
-import com.example.shop.domain.product.entity.Product;
 import com.example.shop.domain.product.service.ProductService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @Controller
 @RequiredArgsConstructor
@@ -19,13 +17,11 @@ public class HomeController {
 
     private final ProductService productService;
 
+    @SqlBudget(3)
     @GetMapping("/")
     public String home(Model model) {
-        // 최신 상품 8개 조회
-        Page<Product> latestProducts = productService.findActiveProducts(PageRequest.of(0, 8));
-        List<ProductDto.Response> products = latestProducts.getContent().stream()
-                .map(ProductDto.Response::from)
-                .collect(Collectors.toList());
+        // 최신 상품 8개 조회 (ID 조회 후 상품 캐시 사용)
+        List<ProductDto.Response> products = productService.findActiveProductResponses(PageRequest.of(0, 8));
 
         model.addAttribute("products", products);
         return "index";
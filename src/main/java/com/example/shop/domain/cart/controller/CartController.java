@@ -1,10 +1,12 @@
 package com.example.shop.domain.cart.controller;
 
 import com.example.shop.config.security.CustomUserDetails;
+import com.example.shop.config.sql.SqlBudget;
 import com.example.shop.domain.cart.dto.CartDto;
-import com.example.shop.domain.cart.entity.Cart;
 import com.example.shop.domain.cart.service.CartService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
@@ -18,19 +20,31 @@ public class CartController {
 
     private final CartService cartService;
 
+    @SqlBudget(2)
     @GetMapping
     public String cart(@AuthenticationPrincipal CustomUserDetails userDetails, Model model) {
-        Cart cart = cartService.findByMember(userDetails.getMember());
-        model.addAttribute("cart", CartDto.Response.from(cart));
+        model.addAttribute("cart", cartService.getCart(userDetails.getMemberId()));
         return "cart/cart";
     }
 
+    /** 헤더 배지 갱신용 경량 조회 (ETag = 요약 version) */
+    @GetMapping("/summary")
+    @ResponseBody
+    public ResponseEntity<CartDto.Summary> summary(@AuthenticationPrincipal CustomUserDetails userDetails) {
+        CartDto.Summary summary = cartService.getSummary(userDetails.getMemberId());
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(summary.getVersion()))
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(summary);
+    }
+
+    @SqlBudget(2)
     @PostMapping("/add")
     public String addItem(@AuthenticationPrincipal CustomUserDetails userDetails,
                          @ModelAttribute CartDto.AddRequest request,
                          RedirectAttributes redirectAttributes) {
         try {
-            cartService.addItem(userDetails.getMember(), request);
+            cartService.addItem(userDetails.getMemberId(), request);
             redirectAttributes.addFlashAttribute("message", "장바구니에 상품이 추가되었습니다.");
         } catch (IllegalArgumentException e) {
             redirectAttributes.addFlashAttribute("error", e.getMessage());
@@ -48,7 +62,7 @@ public class CartController {
                     .productId(productId)
                     .quantity(quantity)
                     .build();
-            cartService.addItem(userDetails.getMember(), request);
+            cartService.addItem(userDetails.getMemberId(), request);
             redirectAttributes.addFlashAttribute("message", "장바구니에 상품이 추가되었습니다.");
         } catch (IllegalArgumentException e) {
             redirectAttributes.addFlashAttribute("error", e.getMessage());
@@ -56,16 +70,16 @@ public class CartController {
         return "redirect:/cart";
     }
 
-    @PostMapping("/update/{cartItemId}")
+    @PostMapping("/update/{productId}")
     public String updateQuantity(@AuthenticationPrincipal CustomUserDetails userDetails,
-                                @PathVariable Long cartItemId,
+                                @PathVariable Long productId,
                                 @RequestParam Integer quantity,
                                 RedirectAttributes redirectAttributes) {
         try {
             CartDto.UpdateRequest request = CartDto.UpdateRequest.builder()
                     .quantity(quantity)
                     .build();
-            cartService.updateItemQuantity(userDetails.getMember(), cartItemId, request);
+            cartService.updateItemQuantity(userDetails.getMemberId(), productId, request);
             redirectAttributes.addFlashAttribute("message", "수량이 변경되었습니다.");
         } catch (IllegalArgumentException e) {
             redirectAttributes.addFlashAttribute("error", e.getMessage());
@@ -73,12 +87,12 @@ public class CartController {
         return "redirect:/cart";
     }
 
-    @PostMapping("/remove/{cartItemId}")
+    @PostMapping("/remove/{productId}")
     public String removeItem(@AuthenticationPrincipal CustomUserDetails userDetails,
-                            @PathVariable Long cartItemId,
+                            @PathVariable Long productId,
                             RedirectAttributes redirectAttributes) {
         try {
-            cartService.removeItem(userDetails.getMember(), cartItemId);
+            cartService.removeItem(userDetails.getMemberId(), productId);
             redirectAttributes.addFlashAttribute("message", "상품이 삭제되었습니다.");
         } catch (IllegalArgumentException e) {
             redirectAttributes.addFlashAttribute("error", e.getMessage());
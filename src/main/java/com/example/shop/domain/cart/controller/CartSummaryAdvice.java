@@ -0,0 +1,28 @@
+package com.example.shop.domain.cart.controller;
+
+import com.example.shop.config.security.CustomUserDetails;
+import com.example.shop.domain.cart.dto.CartDto;
+import com.example.shop.domain.cart.service.CartService;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.stereotype.Controller;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.bind.annotation.ModelAttribute;
+
+/** 공통 헤더의 장바구니 배지: 로그인 사용자의 화면(GET) 요청에만 요약 캐시에서 채운다 */
+@ControllerAdvice(annotations = Controller.class)
+@RequiredArgsConstructor
+public class CartSummaryAdvice {
+
+    private final CartService cartService;
+
+    @ModelAttribute("cartSummary")
+    public CartDto.Summary cartSummary(@AuthenticationPrincipal CustomUserDetails userDetails,
+                                       HttpServletRequest request) {
+        if (userDetails == null || !"GET".equals(request.getMethod())) {
+            return null;
+        }
+        return cartService.getSummary(userDetails.getMemberId());
+    }
+}
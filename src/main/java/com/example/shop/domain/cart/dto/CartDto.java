@@ -1,10 +1,10 @@
 package com.example.shop.domain.cart.dto;
 
-import com.example.shop.domain.cart.entity.Cart;
-import com.example.shop.domain.cart.entity.CartItem;
+import com.example.shop.domain.product.dto.ProductDto;
 import lombok.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 public class CartDto {
@@ -42,7 +42,6 @@ public class CartDto {
     @AllArgsConstructor
     @Builder
     public static class CartItemResponse {
-        private Long id;
         private Long productId;
         private String productName;
         private String productImageUrl;
@@ -50,15 +49,14 @@ public class CartDto {
         private Integer quantity;
         private Integer totalPrice;
 
-        public static CartItemResponse from(CartItem cartItem) {
+        public static CartItemResponse of(ProductDto.Response product, int quantity) {
             return CartItemResponse.builder()
-                    .id(cartItem.getId())
-                    .productId(cartItem.getProduct().getId())
-                    .productName(cartItem.getProduct().getName())
-                    .productImageUrl(cartItem.getProduct().getImageUrl())
-                    .price(cartItem.getProduct().getPrice())
-                    .quantity(cartItem.getQuantity())
-                    .totalPrice(cartItem.getTotalPrice())
+                    .productId(product.getId())
+                    .productName(product.getName())
+                    .productImageUrl(product.getImageUrl())
+                    .price(product.getPrice())
+                    .quantity(quantity)
+                    .totalPrice(product.getPrice() * quantity)
                     .build();
         }
     }
@@ -69,21 +67,42 @@ public class CartDto {
     @AllArgsConstructor
     @Builder
     public static class Response {
-        private Long id;
         private List<CartItemResponse> items;
         private Integer totalPrice;
         private Integer totalQuantity;
 
-        public static Response from(Cart cart) {
-            List<CartItemResponse> items = cart.getCartItems().stream()
-                    .map(CartItemResponse::from)
+        /** products는 담은 순서, 삭제된 상품은 제외된 상태 */
+        public static Response of(List<ProductDto.Response> products, Map<Long, Integer> quantities) {
+            List<CartItemResponse> items = products.stream()
+                    .map(product -> CartItemResponse.of(product, quantities.get(product.getId())))
                     .collect(Collectors.toList());
 
             return Response.builder()
-                    .id(cart.getId())
                     .items(items)
-                    .totalPrice(cart.getTotalPrice())
+                    .totalPrice(items.stream().mapToInt(CartItemResponse::getTotalPrice).sum())
+                    .totalQuantity(items.stream().mapToInt(CartItemResponse::getQuantity).sum())
+                    .build();
+        }
+    }
+
+    /** 헤더 배지/합계용 요약: version은 내용이 바뀔 수 있을 때마다 증가 */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Summary {
+        private Integer itemCount;
+        private Integer totalQuantity;
+        private Integer totalPrice;
+        private Long version;
+
+        public static Summary of(Response cart, long version) {
+            return Summary.builder()
+                    .itemCount(cart.getItems().size())
                     .totalQuantity(cart.getTotalQuantity())
+                    .totalPrice(cart.getTotalPrice())
+                    .version(version)
                     .build();
         }
     }
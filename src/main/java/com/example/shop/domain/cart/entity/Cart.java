@@ -16,7 +16,8 @@ import java.util.List;
 public class Cart {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cart_seq")
+    @SequenceGenerator(name = "cart_seq", sequenceName = "cart_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -36,16 +37,4 @@ public class Cart {
         cartItems.remove(cartItem);
         cartItem.setCart(null);
     }
-
-    public int getTotalPrice() {
-        return cartItems.stream()
-                .mapToInt(item -> item.getProduct().getPrice() * item.getQuantity())
-                .sum();
-    }
-
-    public int getTotalQuantity() {
-        return cartItems.stream()
-                .mapToInt(CartItem::getQuantity)
-                .sum();
-    }
 }
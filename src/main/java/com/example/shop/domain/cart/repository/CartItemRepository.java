@@ -4,7 +4,11 @@ import com.example.shop.domain.cart.entity.Cart;
 import com.example.shop.domain.cart.entity.CartItem;
 import com.example.shop.domain.product.entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface CartItemRepository extends JpaRepository<CartItem, Long> {
@@ -12,4 +16,28 @@ public interface CartItemRepository extends JpaRepository<CartItem, Long> {
     Optional<CartItem> findByCartAndProduct(Cart cart, Product product);
 
     void deleteByCartAndProduct(Cart cart, Product product);
+
+    /**
+     * 담기: 없으면 INSERT, 있으면 수량을 더하는 단일 MERGE (장바구니는 회원 ID로 찾음).
+     * 회원의 장바구니가 아직 없으면 0을 반환한다. ID는 시퀀스 값을 그대로 사용하며 Hibernate pooled 구간과 겹치지 않는다.
+     */
+    @Modifying
+    @Query(value = "MERGE INTO cart_item t " +
+                   "USING (SELECT c.id AS cart_id, CAST(:productId AS BIGINT) AS product_id, " +
+                   "CAST(:quantity AS INTEGER) AS quantity FROM cart c WHERE c.member_id = :memberId) s " +
+                   "ON t.cart_id = s.cart_id AND t.product_id = s.product_id " +
+                   "WHEN MATCHED THEN UPDATE SET quantity = t.quantity + s.quantity " +
+                   "WHEN NOT MATCHED THEN INSERT (id, cart_id, product_id, quantity) " +
+                   "VALUES (NEXT VALUE FOR cart_item_seq, s.cart_id, s.product_id, s.quantity)",
+           nativeQuery = true)
+    int mergeQuantity(@Param("memberId") Long memberId,
+                      @Param("productId") Long productId,
+                      @Param("quantity") int quantity);
+
+    /** 주문 완료된 상품을 회원 장바구니에서 일괄 삭제 */
+    @Modifying
+    @Query("DELETE FROM CartItem ci WHERE ci.cart.id IN (SELECT c.id FROM Cart c WHERE c.member.id = :memberId) " +
+           "AND ci.product.id IN :productIds")
+    int deleteByMemberIdAndProductIdIn(@Param("memberId") Long memberId,
+                                       @Param("productIds") Collection<Long> productIds);
 }
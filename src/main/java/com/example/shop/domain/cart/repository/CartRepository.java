@@ -6,15 +6,19 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface CartRepository extends JpaRepository<Cart, Long> {
 
     Optional<Cart> findByMember(Member member);
 
-    @Query("SELECT c FROM Cart c LEFT JOIN FETCH c.cartItems ci LEFT JOIN FETCH ci.product WHERE c.member = :member")
-    Optional<Cart> findByMemberWithItems(@Param("member") Member member);
-
-    @Query("SELECT c FROM Cart c LEFT JOIN FETCH c.cartItems ci LEFT JOIN FETCH ci.product WHERE c.member.id = :memberId")
+    /** 상품 정보는 상품 캐시에서 읽으므로 장바구니 항목까지만 fetch */
+    @Query("SELECT c FROM Cart c LEFT JOIN FETCH c.cartItems WHERE c.member.id = :memberId")
     Optional<Cart> findByMemberIdWithItems(@Param("memberId") Long memberId);
+
+    /** 메모리 장바구니 일괄 저장용 */
+    @Query("SELECT DISTINCT c FROM Cart c LEFT JOIN FETCH c.cartItems WHERE c.member.id IN :memberIds")
+    List<Cart> findAllByMemberIdInWithItems(@Param("memberIds") Collection<Long> memberIds);
 }
@@ -1,106 +1,60 @@
 package com.example.shop.domain.cart.service;
 
 import com.example.shop.domain.cart.dto.CartDto;
-import com.example.shop.domain.cart.entity.Cart;
-import com.example.shop.domain.cart.entity.CartItem;
-import com.example.shop.domain.cart.repository.CartItemRepository;
-import com.example.shop.domain.cart.repository.CartRepository;
-import com.example.shop.domain.member.entity.Member;
-import com.example.shop.domain.product.entity.Product;
-import com.example.shop.domain.product.repository.ProductRepository;
+import com.example.shop.domain.product.dto.ProductDto;
+import com.example.shop.domain.product.service.ProductCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
-import java.util.Optional;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 
+/** 장바구니 저장은 CartStore(jpa | memory)가 트랜잭션까지 담당하고, 상품 정보는 상품 캐시에서 채운다 */
 @Service
 @RequiredArgsConstructor
-@Transactional(readOnly = true)
 public class CartService {
 
-    private final CartRepository cartRepository;
-    private final CartItemRepository cartItemRepository;
-    private final ProductRepository productRepository;
+    private final CartStore cartStore;
+    private final ProductCache productCache;
+    private final CartSummaryCache cartSummaryCache;
 
-    public Cart findByMember(Member member) {
-        return cartRepository.findByMemberWithItems(member)
-                .orElseGet(() -> createCart(member));
+    public CartDto.Response getCart(Long memberId) {
+        Map<Long, Integer> quantities = cartStore.getQuantities(memberId);
+        List<ProductDto.Response> products = productCache.getAll(quantities.keySet());
+        return CartDto.Response.of(products, quantities);
     }
 
-    public Cart findByMemberId(Long memberId) {
-        return cartRepository.findByMemberIdWithItems(memberId)
-                .orElseThrow(() -> new IllegalArgumentException("장바구니를 찾을 수 없습니다."));
+    /** 헤더 배지용: 캐시에 없을 때만 장바구니를 읽는다 */
+    public CartDto.Summary getSummary(Long memberId) {
+        return cartSummaryCache.get(memberId, () -> getCart(memberId));
     }
 
-    @Transactional
-    public Cart createCart(Member member) {
-        Cart cart = Cart.builder()
-                .member(member)
-                .build();
-        return cartRepository.save(cart);
+    /** 상품 ID → 수량 (담은 순서) */
+    public Map<Long, Integer> getQuantities(Long memberId) {
+        return cartStore.getQuantities(memberId);
     }
 
-    @Transactional
-    public Cart addItem(Member member, CartDto.AddRequest request) {
-        Cart cart = findByMember(member);
-        Product product = productRepository.findById(request.getProductId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다."));
-
-        // 이미 장바구니에 있는 상품인지 확인
-        Optional<CartItem> existingItem = cartItemRepository.findByCartAndProduct(cart, product);
-
-        if (existingItem.isPresent()) {
-            existingItem.get().addQuantity(request.getQuantity());
-        } else {
-            CartItem cartItem = CartItem.builder()
-                    .cart(cart)
-                    .product(product)
-                    .quantity(request.getQuantity())
-                    .build();
-            cart.addCartItem(cartItem);
-        }
-
-        return cart;
+    public void addItem(Long memberId, CartDto.AddRequest request) {
+        // 존재 확인은 상품 캐시로
+        productCache.get(request.getProductId());
+        cartStore.add(memberId, request.getProductId(), request.getQuantity());
+        cartSummaryCache.evict(memberId);
     }
 
-    @Transactional
-    public Cart updateItemQuantity(Member member, Long cartItemId, CartDto.UpdateRequest request) {
-        Cart cart = findByMember(member);
-        CartItem cartItem = cartItemRepository.findById(cartItemId)
-                .orElseThrow(() -> new IllegalArgumentException("장바구니 항목을 찾을 수 없습니다."));
-
-        if (!cartItem.getCart().getId().equals(cart.getId())) {
-            throw new IllegalArgumentException("해당 장바구니 항목에 접근할 수 없습니다.");
-        }
-
-        if (request.getQuantity() <= 0) {
-            cart.removeCartItem(cartItem);
-            cartItemRepository.delete(cartItem);
-        } else {
-            cartItem.setQuantity(request.getQuantity());
-        }
-
-        return cart;
+    public void updateItemQuantity(Long memberId, Long productId, CartDto.UpdateRequest request) {
+        cartStore.update(memberId, productId, request.getQuantity());
+        cartSummaryCache.evict(memberId);
     }
 
-    @Transactional
-    public void removeItem(Member member, Long cartItemId) {
-        Cart cart = findByMember(member);
-        CartItem cartItem = cartItemRepository.findById(cartItemId)
-                .orElseThrow(() -> new IllegalArgumentException("장바구니 항목을 찾을 수 없습니다."));
-
-        if (!cartItem.getCart().getId().equals(cart.getId())) {
-            throw new IllegalArgumentException("해당 장바구니 항목에 접근할 수 없습니다.");
-        }
-
-        cart.removeCartItem(cartItem);
-        cartItemRepository.delete(cartItem);
+    public void removeItem(Long memberId, Long productId) {
+        cartStore.remove(memberId, productId);
+        cartSummaryCache.evict(memberId);
     }
 
-    @Transactional
-    public void clearCart(Member member) {
-        Cart cart = findByMember(member);
-        cart.getCartItems().clear();
+    /** 주문 완료된 상품 삭제 (이미 삭제된 상품은 무시) */
+    public void removeOrderedItems(Long memberId, Collection<Long> productIds) {
+        cartStore.removeProducts(memberId, productIds);
+        cartSummaryCache.evict(memberId);
     }
 }
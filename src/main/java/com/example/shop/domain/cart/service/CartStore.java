@@ -0,0 +1,21 @@
+package com.example.shop.domain.cart.service;
+
+import java.util.Collection;
+import java.util.Map;
+
+/** 장바구니 저장소: 회원별 (상품 ID → 수량), 담은 순서 유지. shop.cart.store = jpa(기본) | memory */
+public interface CartStore {
+
+    Map<Long, Integer> getQuantities(Long memberId);
+
+    /** 이미 담긴 상품이면 수량을 더한다 */
+    void add(Long memberId, Long productId, int quantity);
+
+    /** 수량이 0 이하이면 삭제 */
+    void update(Long memberId, Long productId, int quantity);
+
+    void remove(Long memberId, Long productId);
+
+    /** 주문 완료된 상품 삭제 (없는 상품은 무시) */
+    void removeProducts(Long memberId, Collection<Long> productIds);
+}
@@ -0,0 +1,68 @@
+package com.example.shop.domain.cart.service;
+
+import com.example.shop.domain.cart.dto.CartDto;
+import com.example.shop.domain.product.event.ProductChangedEvent;
+import com.example.shop.domain.product.event.ProductsImportedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 회원별 장바구니 요약(상품 수, 수량, 합계) 캐시.
+ * CartService 변경 시 해당 회원 키를, 상품 가격이 바뀔 수 있는 상품 수정 커밋 시 전체를 무효화하므로
+ * 모든 페이지 헤더에서 장바구니를 읽지 않고 배지를 그릴 수 있다.
+ */
+@Component
+public class CartSummaryCache {
+
+    private final Cache<Long, CartDto.Summary> cache;
+
+    /** 무효화 세대: 계산 도중 무효화가 일어나면 결과를 캐시에 남기지 않는다 (요약 version으로도 사용) */
+    private final AtomicLong generation = new AtomicLong();
+
+    public CartSummaryCache(@Value("${shop.cart.summary.max-size:10000}") long maxSize,
+                            @Value("${shop.cart.summary.ttl:PT10M}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    public CartDto.Summary get(Long memberId, Supplier<CartDto.Response> loader) {
+        CartDto.Summary cached = cache.getIfPresent(memberId);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = generation.get();
+        CartDto.Summary summary = CartDto.Summary.of(loader.get(), stamp);
+        cache.put(memberId, summary);
+        if (generation.get() != stamp) {
+            cache.invalidate(memberId);
+        }
+        return summary;
+    }
+
+    public void evict(Long memberId) {
+        generation.incrementAndGet();
+        cache.invalidate(memberId);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+}
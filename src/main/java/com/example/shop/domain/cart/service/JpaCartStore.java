@@ -0,0 +1,105 @@
+package com.example.shop.domain.cart.service;
+
+import com.example.shop.domain.cart.entity.Cart;
+import com.example.shop.domain.cart.entity.CartItem;
+import com.example.shop.domain.cart.repository.CartItemRepository;
+import com.example.shop.domain.cart.repository.CartRepository;
+import com.example.shop.domain.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+
+/** 기본 저장소: 변경마다 cart/cart_item에 바로 반영 */
+@Component
+@ConditionalOnProperty(name = "shop.cart.store", havingValue = "jpa", matchIfMissing = true)
+@RequiredArgsConstructor
+public class JpaCartStore implements CartStore {
+
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final MemberRepository memberRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Integer> getQuantities(Long memberId) {
+        return cartRepository.findByMemberIdWithItems(memberId)
+                .map(JpaCartStore::quantities)
+                .orElseGet(Map::of);
+    }
+
+    /**
+     * 장바구니를 읽지 않고 MERGE 한 문장으로 담는다 (장바구니가 없을 때만 생성 후 한 번 더).
+     * 같은 상품을 동시에 처음 담아 유니크 키가 충돌하면 새 트랜잭션에서 다시 MERGE하여 수량을 더한다.
+     */
+    @Override
+    public void add(Long memberId, Long productId, int quantity) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> merge(memberId, productId, quantity));
+        } catch (DataIntegrityViolationException e) {
+            transactionTemplate.executeWithoutResult(status -> merge(memberId, productId, quantity));
+        }
+    }
+
+    @Override
+    @Transactional
+    public void update(Long memberId, Long productId, int quantity) {
+        Cart cart = findCart(memberId);
+        CartItem cartItem = find(cart, productId)
+                .orElseThrow(() -> new IllegalArgumentException("장바구니 항목을 찾을 수 없습니다."));
+        if (quantity <= 0) {
+            cart.removeCartItem(cartItem);
+        } else {
+            cartItem.setQuantity(quantity);
+        }
+    }
+
+    @Override
+    @Transactional
+    public void remove(Long memberId, Long productId) {
+        Cart cart = findCart(memberId);
+        CartItem cartItem = find(cart, productId)
+                .orElseThrow(() -> new IllegalArgumentException("장바구니 항목을 찾을 수 없습니다."));
+        cart.removeCartItem(cartItem);
+    }
+
+    @Override
+    @Transactional
+    public void removeProducts(Long memberId, Collection<Long> productIds) {
+        if (!productIds.isEmpty()) {
+            cartItemRepository.deleteByMemberIdAndProductIdIn(memberId, productIds);
+        }
+    }
+
+    private void merge(Long memberId, Long productId, int quantity) {
+        if (cartItemRepository.mergeQuantity(memberId, productId, quantity) == 0) {
+            cartRepository.saveAndFlush(Cart.builder().member(memberRepository.getReferenceById(memberId)).build());
+            cartItemRepository.mergeQuantity(memberId, productId, quantity);
+        }
+    }
+
+    private Cart findCart(Long memberId) {
+        return cartRepository.findByMemberIdWithItems(memberId)
+                .orElseThrow(() -> new IllegalArgumentException("장바구니를 찾을 수 없습니다."));
+    }
+
+    private static Optional<CartItem> find(Cart cart, Long productId) {
+        return cart.getCartItems().stream()
+                .filter(item -> item.getProduct().getId().equals(productId))
+                .findFirst();
+    }
+
+    /** 항목 ID 순 = 담은 순서 */
+    static Map<Long, Integer> quantities(Cart cart) {
+        Map<Long, Integer> quantities = new LinkedHashMap<>();
+        cart.getCartItems().stream()
+                .sorted(Comparator.comparing(CartItem::getId, Comparator.nullsLast(Comparator.naturalOrder())))
+                .forEach(item -> quantities.merge(item.getProduct().getId(), item.getQuantity(), Integer::sum));
+        return quantities;
+    }
+}
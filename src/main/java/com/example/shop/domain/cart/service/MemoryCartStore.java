@@ -0,0 +1,274 @@
+package com.example.shop.domain.cart.service;
+
+import com.example.shop.domain.cart.entity.Cart;
+import com.example.shop.domain.cart.entity.CartItem;
+import com.example.shop.domain.cart.repository.CartRepository;
+import com.example.shop.domain.member.repository.MemberRepository;
+import com.example.shop.domain.product.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 메모리 장바구니 (write-behind, shop.cart.store=memory).
+ * 회원별 장바구니를 처음 사용할 때 DB에서 한 번 읽어 메모리에 두고, 변경은 메모리에만 반영한 뒤
+ * 변경된 장바구니를 주기적으로 모아 한 트랜잭션에서 cart/cart_item에 일괄 저장한다 (같은 장바구니의 연속 변경은 한 번에 반영).
+ * 주문 완료 시와 종료 시에는 즉시 저장하고, 오래 사용하지 않은 장바구니는 저장된 상태에서만 메모리에서 내린다.
+ * 장바구니가 한 서버의 메모리에 있으므로 단일 인스턴스 또는 세션 고정(sticky session) 환경에서만 사용한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shop.cart.store", havingValue = "memory")
+public class MemoryCartStore implements CartStore {
+
+    private final CartRepository cartRepository;
+    private final MemberRepository memberRepository;
+    private final ProductRepository productRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize;
+    private final long idleTimeoutNanos;
+
+    private final Map<Long, MemoryCart> carts = new ConcurrentHashMap<>();
+
+    /** 같은 장바구니가 두 트랜잭션에서 동시에 저장되지 않도록 저장 작업을 직렬화 */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public MemoryCartStore(CartRepository cartRepository,
+                           MemberRepository memberRepository,
+                           ProductRepository productRepository,
+                           PlatformTransactionManager transactionManager,
+                           @Value("${shop.cart.memory.flush-batch-size:200}") int batchSize,
+                           @Value("${shop.cart.memory.idle-timeout:PT30M}") Duration idleTimeout) {
+        this.cartRepository = cartRepository;
+        this.memberRepository = memberRepository;
+        this.productRepository = productRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.batchSize = batchSize;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+    }
+
+    @Override
+    public Map<Long, Integer> getQuantities(Long memberId) {
+        return withCart(memberId, cart -> new LinkedHashMap<>(cart.lines));
+    }
+
+    @Override
+    public void add(Long memberId, Long productId, int quantity) {
+        withCart(memberId, cart -> {
+            cart.lines.merge(productId, quantity, Integer::sum);
+            return cart.changed();
+        });
+    }
+
+    @Override
+    public void update(Long memberId, Long productId, int quantity) {
+        withCart(memberId, cart -> {
+            if (!cart.lines.containsKey(productId)) {
+                throw new IllegalArgumentException("장바구니 항목을 찾을 수 없습니다.");
+            }
+            if (quantity <= 0) {
+                cart.lines.remove(productId);
+            } else {
+                cart.lines.put(productId, quantity);
+            }
+            return cart.changed();
+        });
+    }
+
+    @Override
+    public void remove(Long memberId, Long productId) {
+        withCart(memberId, cart -> {
+            if (cart.lines.remove(productId) == null) {
+                throw new IllegalArgumentException("장바구니 항목을 찾을 수 없습니다.");
+            }
+            return cart.changed();
+        });
+    }
+
+    /** 주문 완료: 메모리에서 지우고 바로 저장 (재시도되어도 같은 결과) */
+    @Override
+    public void removeProducts(Long memberId, Collection<Long> productIds) {
+        MemoryCart cart = withCart(memberId, c -> {
+            c.lines.keySet().removeAll(productIds);
+            return c.changed();
+        });
+        flush(List.of(cart));
+    }
+
+    @Scheduled(fixedDelayString = "${shop.cart.memory.flush-interval:PT5S}")
+    public void flushDirty() {
+        List<MemoryCart> dirty = carts.values().stream().filter(cart -> cart.dirty).toList();
+        for (int from = 0; from < dirty.size(); from += batchSize) {
+            flush(dirty.subList(from, Math.min(from + batchSize, dirty.size())));
+        }
+        evictIdle();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flushDirty();
+        long remaining = carts.values().stream().filter(cart -> cart.dirty).count();
+        if (remaining > 0) {
+            log.warn("저장하지 못한 메모리 장바구니 {}개", remaining);
+        }
+    }
+
+    public int size() {
+        return carts.size();
+    }
+
+    /** 메모리에서 내린 장바구니를 잡은 경우 새로 읽어 다시 시도 */
+    private <T> T withCart(Long memberId, Function<MemoryCart, T> action) {
+        while (true) {
+            MemoryCart cart = carts.computeIfAbsent(memberId, MemoryCart::new);
+            cart.lock.lock();
+            try {
+                if (cart.evicted) {
+                    continue;
+                }
+                if (!cart.loaded) {
+                    cartRepository.findByMemberIdWithItems(memberId)
+                            .ifPresent(saved -> cart.lines.putAll(JpaCartStore.quantities(saved)));
+                    cart.loaded = true;
+                }
+                cart.lastAccessNanos = System.nanoTime();
+                return action.apply(cart);
+            } finally {
+                cart.lock.unlock();
+            }
+        }
+    }
+
+    /** 스냅샷을 저장하고, 저장 도중 다시 바뀌지 않은 장바구니만 깨끗한 상태로 표시 */
+    private void flush(List<MemoryCart> batch) {
+        Map<Long, Snapshot> snapshots = new LinkedHashMap<>();
+        for (MemoryCart cart : batch) {
+            cart.lock.lock();
+            try {
+                if (cart.loaded) {
+                    snapshots.put(cart.memberId, new Snapshot(new LinkedHashMap<>(cart.lines), cart.version));
+                }
+            } finally {
+                cart.lock.unlock();
+            }
+        }
+        if (snapshots.isEmpty()) {
+            return;
+        }
+
+        flushLock.lock();
+        try {
+            transactionTemplate.executeWithoutResult(status -> write(snapshots));
+        } catch (RuntimeException e) {
+            log.warn("메모리 장바구니 저장 실패, 다음 주기에 재시도: {}개", snapshots.size(), e);
+            return;
+        } finally {
+            flushLock.unlock();
+        }
+
+        for (MemoryCart cart : batch) {
+            Snapshot snapshot = snapshots.get(cart.memberId);
+            cart.lock.lock();
+            try {
+                if (snapshot != null && cart.version == snapshot.version()) {
+                    cart.dirty = false;
+                }
+            } finally {
+                cart.lock.unlock();
+            }
+        }
+    }
+
+    /** 장바구니 일괄 조회 1회 후 항목 차이만 INSERT/UPDATE/DELETE (JDBC 배치) */
+    private void write(Map<Long, Snapshot> snapshots) {
+        Map<Long, Cart> saved = new HashMap<>();
+        for (Cart cart : cartRepository.findAllByMemberIdInWithItems(snapshots.keySet())) {
+            saved.put(cart.getMember().getId(), cart);
+        }
+
+        snapshots.forEach((memberId, snapshot) -> {
+            Cart cart = saved.get(memberId);
+            if (cart == null) {
+                cart = cartRepository.save(Cart.builder()
+                        .member(memberRepository.getReferenceById(memberId))
+                        .build());
+            }
+
+            Map<Long, CartItem> items = new HashMap<>();
+            for (CartItem item : List.copyOf(cart.getCartItems())) {
+                if (snapshot.lines().containsKey(item.getProduct().getId())) {
+                    items.put(item.getProduct().getId(), item);
+                } else {
+                    cart.removeCartItem(item);
+                }
+            }
+            for (Map.Entry<Long, Integer> line : snapshot.lines().entrySet()) {
+                CartItem item = items.get(line.getKey());
+                if (item == null) {
+                    cart.addCartItem(CartItem.builder()
+                            .product(productRepository.getReferenceById(line.getKey()))
+                            .quantity(line.getValue())
+                            .build());
+                } else if (!item.getQuantity().equals(line.getValue())) {
+                    item.setQuantity(line.getValue());
+                }
+            }
+        });
+    }
+
+    private void evictIdle() {
+        long now = System.nanoTime();
+        for (MemoryCart cart : carts.values()) {
+            if (now - cart.lastAccessNanos < idleTimeoutNanos || !cart.lock.tryLock()) {
+                continue;
+            }
+            try {
+                if (!cart.dirty && now - cart.lastAccessNanos >= idleTimeoutNanos) {
+                    cart.evicted = true;
+                    carts.remove(cart.memberId, cart);
+                }
+            } finally {
+                cart.lock.unlock();
+            }
+        }
+    }
+
+    /** 회원 한 명의 장바구니: 모든 필드는 lock 안에서만 읽고 쓴다 (dirty/lastAccess는 후보 선별용으로 잠금 없이 읽음) */
+    private static class MemoryCart {
+        private final Long memberId;
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Map<Long, Integer> lines = new LinkedHashMap<>();
+        private boolean loaded;
+        private boolean evicted;
+        private volatile boolean dirty;
+        private volatile long lastAccessNanos = System.nanoTime();
+        private long version;
+
+        MemoryCart(Long memberId) {
+            this.memberId = memberId;
+        }
+
+        MemoryCart changed() {
+            version++;
+            dirty = true;
+            return this;
+        }
+    }
+
+    private record Snapshot(Map<Long, Integer> lines, long version) {
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.shop.domain.delivery.event;
+
+import com.example.shop.domain.delivery.entity.Delivery;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 배송 상태 변경 이벤트 (생성 시 previous = null) */
+@Getter
+@RequiredArgsConstructor
+public class DeliveryStatusChangedEvent {
+
+    private final Long deliveryId;
+    private final Delivery.DeliveryStatus previous;
+    private final Delivery.DeliveryStatus current;
+}
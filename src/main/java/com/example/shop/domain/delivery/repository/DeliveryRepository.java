@@ -7,6 +7,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
@@ -16,7 +18,8 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
 
     Page<Delivery> findByStatus(Delivery.DeliveryStatus status, Pageable pageable);
 
-    @Query("SELECT d FROM Delivery d JOIN FETCH d.order o WHERE " +
+    /** Order.payment는 mappedBy 1:1이라 지연 로딩되지 않으므로 목록 조회에서 함께 가져온다 (주문마다 결제 조회 방지) */
+    @Query("SELECT d FROM Delivery d JOIN FETCH d.order o LEFT JOIN FETCH o.payment WHERE " +
            "(:status IS NULL OR d.status = :status) AND " +
            "(:keyword IS NULL OR o.orderNumber LIKE CONCAT('%', :keyword, '%') OR d.receiverName LIKE CONCAT('%', :keyword, '%'))")
     Page<Delivery> searchDeliveries(
@@ -24,5 +27,32 @@ public interface DeliveryRepository extends JpaRepository<Delivery, Long> {
             @Param("keyword") String keyword,
             Pageable pageable);
 
+    /** 키셋 첫 페이지: 주문일시 인덱스를 따라 (o.orderedAt, d.id) 내림차순 */
+    @Query("SELECT d FROM Delivery d JOIN FETCH d.order o LEFT JOIN FETCH o.payment WHERE " +
+           "(:status IS NULL OR d.status = :status) AND " +
+           "(:keyword IS NULL OR o.orderNumber LIKE CONCAT('%', :keyword, '%') OR d.receiverName LIKE CONCAT('%', :keyword, '%')) " +
+           "ORDER BY o.orderedAt DESC, d.id DESC")
+    List<Delivery> searchDeliveriesFirst(
+            @Param("status") Delivery.DeliveryStatus status,
+            @Param("keyword") String keyword,
+            Pageable pageable);
+
+    /** 키셋 다음 페이지 */
+    @Query("SELECT d FROM Delivery d JOIN FETCH d.order o LEFT JOIN FETCH o.payment WHERE " +
+           "(:status IS NULL OR d.status = :status) AND " +
+           "(:keyword IS NULL OR o.orderNumber LIKE CONCAT('%', :keyword, '%') OR d.receiverName LIKE CONCAT('%', :keyword, '%')) AND " +
+           "(o.orderedAt < :orderedAt OR (o.orderedAt = :orderedAt AND d.id < :id)) " +
+           "ORDER BY o.orderedAt DESC, d.id DESC")
+    List<Delivery> searchDeliveriesAfter(
+            @Param("status") Delivery.DeliveryStatus status,
+            @Param("keyword") String keyword,
+            @Param("orderedAt") LocalDateTime orderedAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
     long countByStatus(Delivery.DeliveryStatus status);
+
+    /** 대시보드 보정용: [status, count] */
+    @Query("SELECT d.status, COUNT(d) FROM Delivery d GROUP BY d.status")
+    List<Object[]> countGroupByStatus();
 }
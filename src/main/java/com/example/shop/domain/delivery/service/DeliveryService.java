@@ -2,15 +2,22 @@ package com.example.shop.domain.delivery.service;
 
 import com.example.shop.domain.delivery.dto.DeliveryDto;
 import com.example.shop.domain.delivery.entity.Delivery;
+import com.example.shop.domain.delivery.event.DeliveryStatusChangedEvent;
 import com.example.shop.domain.delivery.repository.DeliveryRepository;
+import com.example.shop.domain.order.dto.OrderDto;
 import com.example.shop.domain.order.entity.Order;
+import com.example.shop.domain.order.event.OrderStatusChangedEvent;
 import com.example.shop.domain.order.repository.OrderRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 @Transactional(readOnly = true)
@@ -18,6 +25,7 @@ public class DeliveryService {
 
     private final DeliveryRepository deliveryRepository;
     private final OrderRepository orderRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Delivery findById(Long id) {
         return deliveryRepository.findByIdWithOrder(id)
@@ -32,10 +40,21 @@ public class DeliveryService {
         return deliveryRepository.searchDeliveries(status, keyword, pageable);
     }
 
+    /** 키셋 페이징: 커서는 (주문일시, 배송 ID), cursor가 null이면 첫 페이지 */
+    public OrderDto.CursorPage<Delivery> search(Delivery.DeliveryStatus status, String keyword, OrderDto.Cursor cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Delivery> rows = cursor == null
+                ? deliveryRepository.searchDeliveriesFirst(status, keyword, limit)
+                : deliveryRepository.searchDeliveriesAfter(status, keyword, cursor.getOrderedAt(), cursor.getId(), limit);
+        return OrderDto.CursorPage.of(rows, size, d -> new OrderDto.Cursor(d.getOrder().getOrderedAt(), d.getId()));
+    }
+
     @Transactional
     public Delivery updateStatus(Long deliveryId, DeliveryDto.UpdateRequest request) {
         Delivery delivery = findById(deliveryId);
         Delivery.DeliveryStatus newStatus = Delivery.DeliveryStatus.valueOf(request.getStatus());
+        Delivery.DeliveryStatus previousStatus = delivery.getStatus();
+        Order.OrderStatus previousOrderStatus = delivery.getOrder().getStatus();
 
         if (newStatus == Delivery.DeliveryStatus.SHIPPING) {
             delivery.ship(request.getTrackingNumber());
@@ -48,6 +67,14 @@ public class DeliveryService {
             delivery.setStatus(newStatus);
         }
 
+        if (previousStatus != delivery.getStatus()) {
+            eventPublisher.publishEvent(new DeliveryStatusChangedEvent(delivery.getId(), previousStatus, delivery.getStatus()));
+        }
+        if (previousOrderStatus != delivery.getOrder().getStatus()) {
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(
+                    delivery.getOrder().getId(), previousOrderStatus, delivery.getOrder().getStatus()));
+        }
+
         return delivery;
     }
 
@@ -1,6 +1,7 @@
 package com.example.shop.domain.member.controller;
 
 import com.example.shop.config.security.CustomUserDetails;
+import com.example.shop.config.security.PasswordHashingBusyException;
 import com.example.shop.domain.member.dto.MemberDto;
 import com.example.shop.domain.member.entity.Member;
 import com.example.shop.domain.member.service.MemberService;
@@ -29,6 +30,7 @@ public class MemberController {
     @PostMapping("/register")
     public String register(@Valid @ModelAttribute("request") MemberDto.RegisterRequest request,
                           BindingResult bindingResult,
+                          Model model,
                           RedirectAttributes redirectAttributes) {
         if (bindingResult.hasErrors()) {
             return "member/register";
@@ -41,16 +43,23 @@ public class MemberController {
         } catch (IllegalArgumentException e) {
             bindingResult.rejectValue("email", "error.email", e.getMessage());
             return "member/register";
+        } catch (PasswordHashingBusyException e) {
+            model.addAttribute("error", e.getMessage());
+            return "member/register";
         }
     }
 
     @GetMapping("/login")
     public String loginForm(@RequestParam(value = "error", required = false) String error,
                            @RequestParam(value = "logout", required = false) String logout,
+                           @RequestParam(value = "busy", required = false) String busy,
                            Model model) {
         if (error != null) {
             model.addAttribute("error", "이메일 또는 비밀번호가 올바르지 않습니다.");
         }
+        if (busy != null) {
+            model.addAttribute("error", "로그인 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
         if (logout != null) {
             model.addAttribute("message", "로그아웃되었습니다.");
         }
@@ -59,14 +68,14 @@ public class MemberController {
 
     @GetMapping("/profile")
     public String profile(@AuthenticationPrincipal CustomUserDetails userDetails, Model model) {
-        Member member = memberService.findById(userDetails.getMember().getId());
+        Member member = memberService.findById(userDetails.getMemberId());
         model.addAttribute("member", MemberDto.Response.from(member));
         return "member/profile";
     }
 
     @GetMapping("/profile/edit")
     public String editForm(@AuthenticationPrincipal CustomUserDetails userDetails, Model model) {
-        Member member = memberService.findById(userDetails.getMember().getId());
+        Member member = memberService.findById(userDetails.getMemberId());
         MemberDto.UpdateRequest request = MemberDto.UpdateRequest.builder()
                 .name(member.getName())
                 .phone(member.getPhone())
@@ -80,18 +89,22 @@ public class MemberController {
     public String edit(@AuthenticationPrincipal CustomUserDetails userDetails,
                       @Valid @ModelAttribute("request") MemberDto.UpdateRequest request,
                       BindingResult bindingResult,
+                      Model model,
                       RedirectAttributes redirectAttributes) {
         if (bindingResult.hasErrors()) {
             return "member/edit";
         }
 
         try {
-            memberService.update(userDetails.getMember().getId(), request);
+            memberService.update(userDetails.getMemberId(), request);
             redirectAttributes.addFlashAttribute("message", "회원정보가 수정되었습니다.");
             return "redirect:/member/profile";
         } catch (IllegalArgumentException e) {
             bindingResult.reject("error", e.getMessage());
             return "member/edit";
+        } catch (PasswordHashingBusyException e) {
+            model.addAttribute("error", e.getMessage());
+            return "member/edit";
         }
     }
 }
@@ -0,0 +1,12 @@
+package com.example.shop.domain.member.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 회원 정보(이름/비밀번호 등) 변경 이벤트: 로그인 사용자 캐시 무효화용 */
+@Getter
+@RequiredArgsConstructor
+public class MemberChangedEvent {
+
+    private final String email;
+}
@@ -4,8 +4,10 @@ import com.example.shop.domain.cart.entity.Cart;
 import com.example.shop.domain.cart.repository.CartRepository;
 import com.example.shop.domain.member.dto.MemberDto;
 import com.example.shop.domain.member.entity.Member;
+import com.example.shop.domain.member.event.MemberChangedEvent;
 import com.example.shop.domain.member.repository.MemberRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -20,6 +22,7 @@ public class MemberService {
     private final MemberRepository memberRepository;
     private final CartRepository cartRepository;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Member register(MemberDto.RegisterRequest request) {
@@ -73,6 +76,7 @@ public class MemberService {
             member.setPassword(passwordEncoder.encode(request.getNewPassword()));
         }
 
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getEmail()));
         return member;
     }
 
@@ -90,6 +94,7 @@ public class MemberService {
         member.setName(request.getName());
         member.setPhone(request.getPhone());
         member.setAddress(request.getAddress());
+        eventPublisher.publishEvent(new MemberChangedEvent(member.getEmail()));
         return member;
     }
 }
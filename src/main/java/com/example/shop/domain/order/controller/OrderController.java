@@ -1,14 +1,17 @@
 package com.example.shop.domain.order.controller;
 
 import com.example.shop.config.security.CustomUserDetails;
+import com.example.shop.config.sql.SqlBudget;
 import com.example.shop.domain.cart.dto.CartDto;
-import com.example.shop.domain.cart.entity.Cart;
 import com.example.shop.domain.cart.service.CartService;
 import com.example.shop.domain.member.entity.Member;
+import com.example.shop.domain.member.service.MemberService;
 import com.example.shop.domain.order.dto.OrderDto;
 import com.example.shop.domain.order.entity.Order;
 import com.example.shop.domain.order.entity.Payment;
+import com.example.shop.domain.order.service.OrderIdempotencyService;
 import com.example.shop.domain.order.service.OrderService;
+import com.example.shop.domain.order.service.OrderTransactionRetry;
 import com.example.shop.domain.product.entity.Product;
 import com.example.shop.domain.product.service.ProductService;
 import jakarta.validation.Valid;
@@ -26,55 +29,73 @@ import org.springframework.web.servlet.mvc.support.RedirectAttributes;
 
 import java.util.Arrays;
 import java.util.Random;
+import java.util.UUID;
 
 @Controller
 @RequestMapping("/order")
 @RequiredArgsConstructor
 public class OrderController {
 
+    /** API/프록시 재시도용: 폼의 requestKey 대신 헤더로 요청 키를 보낼 수 있다 */
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final OrderService orderService;
     private final CartService cartService;
+    private final MemberService memberService;
     private final ProductService productService;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final OrderTransactionRetry orderTransactionRetry;
 
+    @SqlBudget(3)
     @GetMapping("/checkout")
     public String checkout(@AuthenticationPrincipal CustomUserDetails userDetails, Model model) {
-        Member member = userDetails.getMember();
-        Cart cart = cartService.findByMember(member);
+        CartDto.Response cart = cartService.getCart(userDetails.getMemberId());
 
-        if (cart.getCartItems().isEmpty()) {
+        if (cart.getItems().isEmpty()) {
             return "redirect:/cart";
         }
 
+        // 세션에는 배송 정보가 없으므로 기본값은 회원 정보에서 읽는다
+        Member member = memberService.findById(userDetails.getMemberId());
+
         OrderDto.CreateRequest request = OrderDto.CreateRequest.builder()
                 .receiverName(member.getName())
                 .receiverPhone(member.getPhone())
                 .address(member.getAddress())
                 .paymentMethod(getRandomPaymentMethod())
+                .requestKey(UUID.randomUUID().toString())
                 .build();
 
-        model.addAttribute("cart", CartDto.Response.from(cart));
+        model.addAttribute("cart", cart);
         model.addAttribute("request", request);
         model.addAttribute("paymentMethods", Payment.PaymentMethod.values());
 
         return "order/checkout";
     }
 
+    @SqlBudget(10)
     @PostMapping("/checkout")
     public String processCheckout(@AuthenticationPrincipal CustomUserDetails userDetails,
                                  @Valid @ModelAttribute("request") OrderDto.CreateRequest request,
                                  BindingResult bindingResult,
+                                 @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
                                  Model model,
                                  RedirectAttributes redirectAttributes) {
         if (bindingResult.hasErrors()) {
-            Cart cart = cartService.findByMember(userDetails.getMember());
-            model.addAttribute("cart", CartDto.Response.from(cart));
+            model.addAttribute("cart", cartService.getCart(userDetails.getMemberId()));
             model.addAttribute("paymentMethods", Payment.PaymentMethod.values());
             return "order/checkout";
         }
 
         try {
-            Order order = orderService.createFromCart(userDetails.getMember(), request);
-            return "redirect:/order/complete/" + order.getId();
+            // 중복 제출/재시도는 먼저 생성된 주문으로 연결
+            if (idempotencyKey != null) {
+                request.setRequestKey(idempotencyKey);
+            }
+            Long memberId = userDetails.getMemberId();
+            Long orderId = orderIdempotencyService.execute(memberId, request.getRequestKey(),
+                    () -> orderTransactionRetry.execute(() -> orderService.createFromCart(memberId, request).getId()));
+            return "redirect:/order/complete/" + orderId;
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", e.getMessage());
             return "redirect:/order/checkout";
@@ -86,7 +107,7 @@ public class OrderController {
                              @PathVariable Long productId,
                              @RequestParam(defaultValue = "1") Integer quantity,
                              Model model) {
-        Member member = userDetails.getMember();
+        Member member = memberService.findById(userDetails.getMemberId());
         Product product = productService.findById(productId);
 
         OrderDto.DirectOrderRequest request = OrderDto.DirectOrderRequest.builder()
@@ -96,6 +117,7 @@ public class OrderController {
                 .receiverPhone(member.getPhone())
                 .address(member.getAddress())
                 .paymentMethod(getRandomPaymentMethod())
+                .requestKey(UUID.randomUUID().toString())
                 .build();
 
         model.addAttribute("product", product);
@@ -106,10 +128,12 @@ public class OrderController {
         return "order/direct";
     }
 
+    @SqlBudget(8)
     @PostMapping("/direct")
     public String processDirectOrder(@AuthenticationPrincipal CustomUserDetails userDetails,
                                     @Valid @ModelAttribute("request") OrderDto.DirectOrderRequest request,
                                     BindingResult bindingResult,
+                                    @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
                                     Model model,
                                     RedirectAttributes redirectAttributes) {
         if (bindingResult.hasErrors()) {
@@ -121,8 +145,13 @@ public class OrderController {
         }
 
         try {
-            Order order = orderService.createDirectOrder(userDetails.getMember(), request);
-            return "redirect:/order/complete/" + order.getId();
+            if (idempotencyKey != null) {
+                request.setRequestKey(idempotencyKey);
+            }
+            Long memberId = userDetails.getMemberId();
+            Long orderId = orderIdempotencyService.execute(memberId, request.getRequestKey(),
+                    () -> orderTransactionRetry.execute(() -> orderService.createDirectOrder(memberId, request).getId()));
+            return "redirect:/order/complete/" + orderId;
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", e.getMessage());
             return "redirect:/products/" + request.getProductId();
@@ -134,30 +163,41 @@ public class OrderController {
                           @PathVariable Long orderId,
                           Model model) {
         Order order = orderService.findById(orderId);
-        if (!order.getMember().getId().equals(userDetails.getMember().getId())) {
+        if (!order.getMember().getId().equals(userDetails.getMemberId())) {
             return "redirect:/order/history";
         }
         model.addAttribute("order", OrderDto.Response.from(order));
         return "order/complete";
     }
 
+    @SqlBudget(4)
     @GetMapping("/history")
     public String history(@AuthenticationPrincipal CustomUserDetails userDetails,
                          @RequestParam(defaultValue = "0") int page,
                          @RequestParam(defaultValue = "10") int size,
+                         @RequestParam(required = false) String cursor,
                          Model model) {
+        // cursor 파라미터가 있으면(빈 값 = 첫 페이지) COUNT 없는 키셋 페이징
+        if (cursor != null) {
+            model.addAttribute("orders", orderService.findHistoryByMember(userDetails.getMemberId(), OrderDto.Cursor.parse(cursor), size));
+            model.addAttribute("keyset", true);
+            return "order/history";
+        }
+
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "orderedAt"));
-        model.addAttribute("orders", orderService.findHistoryByMember(userDetails.getMember(), pageable));
+        model.addAttribute("orders", orderService.findHistoryByMember(userDetails.getMemberId(), pageable));
+        model.addAttribute("keyset", false);
         return "order/history";
     }
 
+    @SqlBudget(2)
     @GetMapping("/{orderId}")
     public String detail(@AuthenticationPrincipal CustomUserDetails userDetails,
                         @PathVariable Long orderId, Model model) {
         Order order = orderService.findById(orderId);
 
         // 본인의 주문만 볼 수 있도록
-        if (!order.getMember().getId().equals(userDetails.getMember().getId())) {
+        if (!order.getMember().getId().equals(userDetails.getMemberId())) {
             return "redirect:/order/history";
         }
 
@@ -171,11 +211,11 @@ public class OrderController {
                         RedirectAttributes redirectAttributes) {
         try {
             Order order = orderService.findById(orderId);
-            if (!order.getMember().getId().equals(userDetails.getMember().getId())) {
+            if (!order.getMember().getId().equals(userDetails.getMemberId())) {
                 redirectAttributes.addFlashAttribute("error", "권한이 없습니다.");
                 return "redirect:/order/history";
             }
-            orderService.cancel(orderId);
+            orderTransactionRetry.run(() -> orderService.cancel(orderId));
             redirectAttributes.addFlashAttribute("message", "주문이 취소되었습니다.");
         } catch (Exception e) {
             redirectAttributes.addFlashAttribute("error", e.getMessage());
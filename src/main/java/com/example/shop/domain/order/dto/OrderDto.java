@@ -8,7 +8,12 @@ import lombok.*;
 
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class OrderDto {
@@ -33,6 +38,9 @@ public class OrderDto {
         @NotNull(message = "결제수단은 필수입니다")
         private String paymentMethod;
 
+        /** 중복 제출 방지용 요청 키 (주문 폼에 hidden으로 포함) */
+        private String requestKey;
+
         // 디폴트 값 설정
         public static CreateRequest createDefault() {
             return CreateRequest.builder()
@@ -74,6 +82,9 @@ public class OrderDto {
 
         @NotNull(message = "결제수단은 필수입니다")
         private String paymentMethod;
+
+        /** 중복 제출 방지용 요청 키 (주문 폼에 hidden으로 포함) */
+        private String requestKey;
     }
 
     @Getter
@@ -228,6 +239,88 @@ public class OrderDto {
         }
     }
 
+    /** 키셋 페이지 위치: 마지막으로 본 행의 (orderedAt, id). 클라이언트에는 불투명 토큰으로만 노출 */
+    @Getter
+    @AllArgsConstructor
+    public static class Cursor {
+        private LocalDateTime orderedAt;
+        private Long id;
+
+        public String encode() {
+            String raw = orderedAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /** 빈 값이나 변조된 토큰은 null(첫 페이지)로 처리 */
+        public static Cursor parse(String token) {
+            if (token == null || token.isEmpty()) {
+                return null;
+            }
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+                int sep = raw.indexOf('|');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, sep)), Long.valueOf(raw.substring(sep + 1)));
+            } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+                return null;
+            }
+        }
+    }
+
+    /** 키셋 페이지 결과: COUNT 쿼리 없이 다음 페이지 존재 여부만 판단 (총 건수는 근사치, 없으면 null) */
+    @Getter
+    @AllArgsConstructor
+    public static class CursorPage<T> {
+        private List<T> content;
+        private String nextCursor;
+        private Long approximateTotal;
+
+        public boolean hasNext() {
+            return nextCursor != null;
+        }
+
+        public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+            return new CursorPage<>(content.stream().map(mapper).collect(Collectors.toList()), nextCursor, approximateTotal);
+        }
+
+        public CursorPage<T> withApproximateTotal(Long approximateTotal) {
+            return new CursorPage<>(content, nextCursor, approximateTotal);
+        }
+
+        /** size + 1건 조회 결과로 페이지 구성: 초과분이 있으면 size번째 행이 다음 커서 */
+        public static <T> CursorPage<T> of(List<T> rows, int size, Function<T, Cursor> cursorOf) {
+            if (rows.size() <= size) {
+                return new CursorPage<>(rows, null, null);
+            }
+            List<T> content = rows.subList(0, size);
+            return new CursorPage<>(content, cursorOf.apply(content.get(size - 1)).encode(), null);
+        }
+    }
+
+    /** 주문 내보내기 한 행: 주문상품 단위로 주문/회원/결제/배송 컬럼을 펼친 JDBC 조회 결과 (주문상품이 없으면 상품 컬럼은 null) */
+    @Getter
+    @AllArgsConstructor
+    public static class ExportRow {
+        private Long orderId;
+        private String orderNumber;
+        private LocalDateTime orderedAt;
+        private String status;
+        private Integer totalAmount;
+        private String memberEmail;
+        private String paymentMethod;
+        private String paymentStatus;
+        private Integer paymentAmount;
+        private LocalDateTime paidAt;
+        private String deliveryStatus;
+        private String receiverName;
+        private String trackingNumber;
+        private LocalDateTime shippedAt;
+        private LocalDateTime deliveredAt;
+        private Long productId;
+        private String productName;
+        private Integer quantity;
+        private Integer price;
+    }
+
     @Getter
     @Setter
     @NoArgsConstructor
@@ -7,13 +7,17 @@ import lombok.*;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Entity
 @Table(name = "orders", indexes = {
     @Index(name = "idx_orders_member_id", columnList = "member_id"),
     @Index(name = "idx_orders_status", columnList = "status"),
     @Index(name = "idx_orders_ordered_at", columnList = "orderedAt")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_orders_member_request_key", columnNames = {"member_id", "request_key"})
 })
 @Getter
 @Setter
@@ -23,7 +27,8 @@ import java.util.UUID;
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "orders_seq")
+    @SequenceGenerator(name = "orders_seq", sequenceName = "orders_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,6 +38,10 @@ public class Order {
     @Column(nullable = false, unique = true)
     private String orderNumber;
 
+    /** 주문 요청 키(멱등성): 같은 회원이 같은 키로 다시 요청하면 기존 주문을 돌려준다 */
+    @Column(name = "request_key", length = 64)
+    private String requestKey;
+
     @Column(nullable = false)
     private Integer totalAmount;
 
@@ -52,9 +61,12 @@ public class Order {
     @OneToOne(mappedBy = "order", cascade = CascadeType.ALL, orphanRemoval = true)
     private Delivery delivery;
 
+    /** 주문번호는 OrderNumberGenerator로 미리 지정, 누락된 경우에만 임시 번호 부여 */
     @PrePersist
     protected void onCreate() {
-        orderNumber = UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        if (orderNumber == null) {
+            orderNumber = UUID.randomUUID().toString().replace("-", "").toUpperCase();
+        }
         orderedAt = LocalDateTime.now();
     }
 
@@ -73,14 +85,21 @@ public class Order {
         delivery.setOrder(this);
     }
 
+    /** 재고 복원은 OrderService에서 StockService로 처리 */
     public void cancel() {
         if (this.status == OrderStatus.DELIVERED) {
             throw new IllegalStateException("이미 배송완료된 주문은 취소할 수 없습니다.");
         }
-        this.status = OrderStatus.CANCELLED;
-        for (OrderItem orderItem : orderItems) {
-            orderItem.getProduct().increaseStock(orderItem.getQuantity());
+        if (this.status == OrderStatus.CANCELLED) {
+            throw new IllegalStateException("이미 취소된 주문입니다.");
         }
+        this.status = OrderStatus.CANCELLED;
+    }
+
+    /** 상품 ID별 주문 수량 (취소 시 재고 복원 단위) */
+    public Map<Long, Integer> quantitiesByProduct() {
+        return orderItems.stream()
+                .collect(Collectors.toMap(item -> item.getProduct().getId(), OrderItem::getQuantity, Integer::sum));
     }
 
     public enum OrderStatus {
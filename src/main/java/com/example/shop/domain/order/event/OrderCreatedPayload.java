@@ -0,0 +1,23 @@
+package com.example.shop.domain.order.event;
+
+import com.example.shop.domain.delivery.entity.Delivery;
+import com.example.shop.domain.order.entity.Order;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/** 주문 생성 아웃박스 내용: 후속 처리 시점이 아닌 주문 커밋 시점의 상태를 기록한다 */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderCreatedPayload {
+
+    private Long memberId;
+    /** 장바구니에서 주문한 상품 (바로 주문이면 비어 있음) */
+    private List<Long> cartProductIds;
+    private Order.OrderStatus orderStatus;
+    private Long deliveryId;
+    private Delivery.DeliveryStatus deliveryStatus;
+}
@@ -0,0 +1,15 @@
+package com.example.shop.domain.order.event;
+
+import com.example.shop.domain.order.entity.Order;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 주문 상태 변경 이벤트 (생성 시 previous = null) */
+@Getter
+@RequiredArgsConstructor
+public class OrderStatusChangedEvent {
+
+    private final Long orderId;
+    private final Order.OrderStatus previous;
+    private final Order.OrderStatus current;
+}
@@ -0,0 +1,96 @@
+package com.example.shop.domain.order.repository;
+
+import com.example.shop.domain.order.dto.OrderDto;
+import com.example.shop.domain.order.entity.Order;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 주문 내보내기 전용 JDBC 조회.
+ * 엔티티/영속성 컨텍스트 없이 주문상품 단위로 펼친 행을 전진 전용 커서(fetch size)로 읽어 Stream으로 넘기므로
+ * 건수와 무관하게 애플리케이션 메모리 사용량이 일정하다. Stream은 트랜잭션 안에서 소비하고 반드시 닫는다.
+ */
+@Repository
+public class OrderExportRepository {
+
+    private static final String SELECT_SQL =
+            "SELECT o.id, o.order_number, o.ordered_at, o.status, o.total_amount, m.email, " +
+            "p.payment_method, p.status AS payment_status, p.amount, p.paid_at, " +
+            "d.status AS delivery_status, d.receiver_name, d.tracking_number, d.shipped_at, d.delivered_at, " +
+            "oi.product_id, pr.name, oi.quantity, oi.price " +
+            "FROM orders o " +
+            "LEFT JOIN member m ON m.id = o.member_id " +
+            "LEFT JOIN payment p ON p.order_id = o.id " +
+            "LEFT JOIN delivery d ON d.order_id = o.id " +
+            "LEFT JOIN order_item oi ON oi.order_id = o.id " +
+            "LEFT JOIN product pr ON pr.id = oi.product_id";
+
+    /** 같은 주문의 행이 연속으로 오도록 주문 단위로 정렬 (NDJSON은 주문별로 묶어서 쓴다) */
+    private static final String ORDER_BY_SQL = " ORDER BY o.ordered_at, o.id, oi.id";
+
+    private static final RowMapper<OrderDto.ExportRow> ROW_MAPPER = (rs, rowNum) -> new OrderDto.ExportRow(
+            rs.getLong(1),
+            rs.getString(2),
+            toLocalDateTime(rs.getTimestamp(3)),
+            rs.getString(4),
+            rs.getInt(5),
+            rs.getString(6),
+            rs.getString(7),
+            rs.getString(8),
+            rs.getObject(9, Integer.class),
+            toLocalDateTime(rs.getTimestamp(10)),
+            rs.getString(11),
+            rs.getString(12),
+            rs.getString(13),
+            toLocalDateTime(rs.getTimestamp(14)),
+            toLocalDateTime(rs.getTimestamp(15)),
+            rs.getObject(16, Long.class),
+            rs.getString(17),
+            rs.getObject(18, Integer.class),
+            rs.getObject(19, Integer.class));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OrderExportRepository(DataSource dataSource,
+                                 @Value("${shop.order.export.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /** 주문일시 [from, to) 범위, 상태 조건(null이면 전체)에 해당하는 주문상품 행 */
+    public Stream<OrderDto.ExportRow> streamRows(Order.OrderStatus status, LocalDateTime from, LocalDateTime to) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> args = new ArrayList<>();
+        List<String> conditions = new ArrayList<>();
+        if (status != null) {
+            conditions.add("o.status = ?");
+            args.add(status.name());
+        }
+        if (from != null) {
+            conditions.add("o.ordered_at >= ?");
+            args.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            conditions.add("o.ordered_at < ?");
+            args.add(Timestamp.valueOf(to));
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(ORDER_BY_SQL);
+        return jdbcTemplate.queryForStream(sql.toString(), ROW_MAPPER, args.toArray());
+    }
+
+    private static LocalDateTime toLocalDateTime(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime() : null;
+    }
+}
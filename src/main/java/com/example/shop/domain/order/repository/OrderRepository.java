@@ -8,6 +8,8 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,8 +19,40 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
 
     Page<Order> findByMemberOrderByOrderedAtDesc(Member member, Pageable pageable);
 
+    /** 주문 내역 1단계: 페이지에 해당하는 주문 ID만 조회 (엔티티 로딩 시 payment/delivery 즉시 로딩 방지) */
+    @Query(value = "SELECT o.id FROM Order o WHERE o.member.id = :memberId ORDER BY o.orderedAt DESC, o.id DESC",
+           countQuery = "SELECT COUNT(o) FROM Order o WHERE o.member.id = :memberId")
+    Page<Long> findIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    /** 키셋 첫 페이지: (orderedAt, id) 내림차순, 건수는 pageable로 제한 */
+    @Query("SELECT o.id FROM Order o WHERE o.member.id = :memberId ORDER BY o.orderedAt DESC, o.id DESC")
+    List<Long> findFirstIdsByMemberId(@Param("memberId") Long memberId, Pageable pageable);
+
+    /** 키셋 다음 페이지: 커서 이후 행만 조회하므로 페이지 깊이와 무관하게 비용이 같다 */
+    @Query("SELECT o.id FROM Order o WHERE o.member.id = :memberId AND " +
+           "(o.orderedAt < :orderedAt OR (o.orderedAt = :orderedAt AND o.id < :id)) " +
+           "ORDER BY o.orderedAt DESC, o.id DESC")
+    List<Long> findIdsByMemberIdAfter(
+            @Param("memberId") Long memberId,
+            @Param("orderedAt") LocalDateTime orderedAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
+    /** 주문 내역 2단계: 주문상품/상품/결제/배송을 한 번에 fetch (정렬은 호출 측에서 ID 순서대로 복원) */
+    @Query("SELECT DISTINCT o FROM Order o " +
+           "LEFT JOIN FETCH o.orderItems oi " +
+           "LEFT JOIN FETCH oi.product " +
+           "LEFT JOIN FETCH o.payment " +
+           "LEFT JOIN FETCH o.delivery " +
+           "WHERE o.id IN :ids")
+    List<Order> findAllWithDetailsByIdIn(@Param("ids") Collection<Long> ids);
+
     Optional<Order> findByOrderNumber(String orderNumber);
 
+    /** 멱등성 확인용: 이미 같은 요청 키로 생성된 주문 ID */
+    @Query("SELECT o.id FROM Order o WHERE o.member.id = :memberId AND o.requestKey = :requestKey")
+    Optional<Long> findIdByMemberIdAndRequestKey(@Param("memberId") Long memberId, @Param("requestKey") String requestKey);
+
     @Query("SELECT o FROM Order o " +
            "LEFT JOIN FETCH o.orderItems oi " +
            "LEFT JOIN FETCH oi.product " +
@@ -35,8 +69,8 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             @Param("keyword") String keyword,
             Pageable pageable);
 
-    /** 관리자 목록용: delivery만 fetch (orderItems 미접근으로 LazyInitializationException 방지) */
-    @Query(value = "SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.delivery WHERE " +
+    /** 관리자 목록용: delivery/payment만 fetch (역방향 OneToOne 개별 조회 방지, orderItems 미접근) */
+    @Query(value = "SELECT DISTINCT o FROM Order o LEFT JOIN FETCH o.delivery LEFT JOIN FETCH o.payment WHERE " +
            "(:status IS NULL OR o.status = :status) AND " +
            "(:keyword IS NULL OR o.orderNumber LIKE CONCAT('%', :keyword, '%'))",
            countQuery = "SELECT COUNT(o) FROM Order o WHERE " +
@@ -47,7 +81,34 @@ public interface OrderRepository extends JpaRepository<Order, Long> {
             @Param("keyword") String keyword,
             Pageable pageable);
 
+    /** 관리자 목록 키셋 첫 페이지 */
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.delivery LEFT JOIN FETCH o.payment WHERE " +
+           "(:status IS NULL OR o.status = :status) AND " +
+           "(:keyword IS NULL OR o.orderNumber LIKE CONCAT('%', :keyword, '%')) " +
+           "ORDER BY o.orderedAt DESC, o.id DESC")
+    List<Order> searchOrdersWithDeliveryFirst(
+            @Param("status") Order.OrderStatus status,
+            @Param("keyword") String keyword,
+            Pageable pageable);
+
+    /** 관리자 목록 키셋 다음 페이지 */
+    @Query("SELECT o FROM Order o LEFT JOIN FETCH o.delivery LEFT JOIN FETCH o.payment WHERE " +
+           "(:status IS NULL OR o.status = :status) AND " +
+           "(:keyword IS NULL OR o.orderNumber LIKE CONCAT('%', :keyword, '%')) AND " +
+           "(o.orderedAt < :orderedAt OR (o.orderedAt = :orderedAt AND o.id < :id)) " +
+           "ORDER BY o.orderedAt DESC, o.id DESC")
+    List<Order> searchOrdersWithDeliveryAfter(
+            @Param("status") Order.OrderStatus status,
+            @Param("keyword") String keyword,
+            @Param("orderedAt") LocalDateTime orderedAt,
+            @Param("id") Long id,
+            Pageable pageable);
+
     Page<Order> findByStatus(Order.OrderStatus status, Pageable pageable);
 
     long countByStatus(Order.OrderStatus status);
+
+    /** 대시보드 보정용: [status, count] */
+    @Query("SELECT o.status, COUNT(o) FROM Order o GROUP BY o.status")
+    List<Object[]> countGroupByStatus();
 }
@@ -0,0 +1,37 @@
+package com.example.shop.domain.order.service;
+
+import com.example.shop.domain.cart.service.CartService;
+import com.example.shop.domain.delivery.event.DeliveryStatusChangedEvent;
+import com.example.shop.domain.order.event.OrderCreatedPayload;
+import com.example.shop.domain.order.event.OrderStatusChangedEvent;
+import com.example.shop.domain.outbox.entity.OutboxEvent;
+import com.example.shop.domain.outbox.service.OutboxEventHandler;
+import com.example.shop.domain.outbox.service.OutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/** 주문 생성 후속 처리: 주문한 장바구니 항목 삭제, 주문/배송 생성 이벤트 발행 (통계 등은 워커 커밋 후 반영) */
+@Component
+@RequiredArgsConstructor
+public class OrderCreatedOutboxHandler implements OutboxEventHandler {
+
+    private final CartService cartService;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public OutboxEvent.EventType eventType() {
+        return OutboxEvent.EventType.ORDER_CREATED;
+    }
+
+    @Override
+    public void handle(OutboxEvent event) {
+        OrderCreatedPayload payload = outboxService.readPayload(event, OrderCreatedPayload.class);
+        if (payload.getCartProductIds() != null && !payload.getCartProductIds().isEmpty()) {
+            cartService.removeOrderedItems(payload.getMemberId(), payload.getCartProductIds());
+        }
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(event.getAggregateId(), null, payload.getOrderStatus()));
+        eventPublisher.publishEvent(new DeliveryStatusChangedEvent(payload.getDeliveryId(), null, payload.getDeliveryStatus()));
+    }
+}
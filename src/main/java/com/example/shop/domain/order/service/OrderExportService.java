@@ -0,0 +1,222 @@
+package com.example.shop.domain.order.service;
+
+import com.example.shop.domain.order.dto.OrderDto;
+import com.example.shop.domain.order.entity.Order;
+import com.example.shop.domain.order.repository.OrderExportRepository;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 관리자 주문 내보내기 (회계 정산용).
+ * 커서에서 읽은 행을 모으지 않고 바로 writer에 쓰므로 주문 건수와 무관하게 메모리 사용량이 일정하다.
+ * 내보내는 동안 읽기 전용 트랜잭션(커넥션)을 유지하고, 끝나면 처리량을 로그로 남긴다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OrderExportService {
+
+    private static final String CSV_HEADER = String.join(",",
+            "order_id", "order_number", "ordered_at", "status", "total_amount", "member_email",
+            "payment_method", "payment_status", "payment_amount", "paid_at",
+            "delivery_status", "receiver_name", "tracking_number", "shipped_at", "delivered_at",
+            "product_id", "product_name", "quantity", "price");
+
+    /** 엑셀에서 UTF-8 CSV를 바로 열 수 있도록 붙이는 BOM */
+    private static final char BOM = '\uFEFF';
+
+    private final OrderExportRepository orderExportRepository;
+    private final ObjectMapper objectMapper;
+
+    @Getter
+    public enum Format {
+        /** 주문상품 한 줄 (주문 컬럼 반복) */
+        CSV("text/csv", "csv"),
+        /** 주문 한 줄 (주문상품은 items 배열) */
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+    }
+
+    /** 주문일 from ~ to(포함), 상태(null이면 전체) 조건의 주문을 format으로 writer에 쓴다 (flush는 마지막에 한 번) */
+    public void export(Order.OrderStatus status, LocalDate from, LocalDate to, Format format, Writer writer)
+            throws IOException {
+        long started = System.nanoTime();
+        Progress progress = new Progress();
+        try (Stream<OrderDto.ExportRow> rows = orderExportRepository.streamRows(status,
+                from != null ? from.atStartOfDay() : null,
+                to != null ? to.plusDays(1).atStartOfDay() : null)) {
+            if (format == Format.CSV) {
+                writeCsv(rows.iterator(), writer, progress);
+            } else {
+                writeNdjson(rows.iterator(), writer, progress);
+            }
+            writer.flush();
+        } catch (IOException e) {
+            // 대부분 다운로드 중 클라이언트 연결 종료
+            log.info("주문 내보내기 중단: {} 주문 {}건, 행 {}개 이후 ({})", format, progress.orders, progress.rows, e.getMessage());
+            throw e;
+        }
+
+        long elapsedNanos = Math.max(System.nanoTime() - started, 1);
+        log.info("주문 내보내기 완료: {} 주문 {}건, 행 {}개, {}ms ({}행/초)", format, progress.orders, progress.rows,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), progress.rows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos);
+    }
+
+    private void writeCsv(Iterator<OrderDto.ExportRow> rows, Writer writer, Progress progress) throws IOException {
+        writer.write(BOM);
+        writer.write(CSV_HEADER);
+        writer.write("\r\n");
+        Long currentOrderId = null;
+        while (rows.hasNext()) {
+            OrderDto.ExportRow row = rows.next();
+            if (!row.getOrderId().equals(currentOrderId)) {
+                currentOrderId = row.getOrderId();
+                progress.orders++;
+            }
+            csv(writer, row.getOrderId()).write(',');
+            csv(writer, row.getOrderNumber()).write(',');
+            csv(writer, text(row.getOrderedAt())).write(',');
+            csv(writer, row.getStatus()).write(',');
+            csv(writer, row.getTotalAmount()).write(',');
+            csv(writer, row.getMemberEmail()).write(',');
+            csv(writer, row.getPaymentMethod()).write(',');
+            csv(writer, row.getPaymentStatus()).write(',');
+            csv(writer, row.getPaymentAmount()).write(',');
+            csv(writer, text(row.getPaidAt())).write(',');
+            csv(writer, row.getDeliveryStatus()).write(',');
+            csv(writer, row.getReceiverName()).write(',');
+            csv(writer, row.getTrackingNumber()).write(',');
+            csv(writer, text(row.getShippedAt())).write(',');
+            csv(writer, text(row.getDeliveredAt())).write(',');
+            csv(writer, row.getProductId()).write(',');
+            csv(writer, row.getProductName()).write(',');
+            csv(writer, row.getQuantity()).write(',');
+            csv(writer, row.getPrice()).write("\r\n");
+            progress.rows++;
+        }
+    }
+
+    /**
+     * RFC 4180: 구분자/따옴표/줄바꿈이 있는 값만 따옴표로 감싼다.
+     * 수령인 이름 등 사용자 입력 문자열이 =, +, -, @로 시작하면 스프레드시트 수식으로 실행되지 않도록 '를 앞에 붙인다.
+     */
+    private static Writer csv(Writer writer, Object value) throws IOException {
+        if (value == null) {
+            return writer;
+        }
+        String s = value.toString();
+        if (value instanceof String && !s.isEmpty() && "=+-@".indexOf(s.charAt(0)) >= 0) {
+            s = "'" + s;
+        }
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0 && s.indexOf('\r') < 0) {
+            writer.write(s);
+            return writer;
+        }
+        writer.write('"');
+        writer.write(s.replace("\"", "\"\""));
+        writer.write('"');
+        return writer;
+    }
+
+    /** 정렬상 같은 주문의 행이 연속으로 오므로 주문이 바뀔 때 이전 주문 객체를 닫는다 (주문상품도 모으지 않고 바로 쓴다) */
+    private void writeNdjson(Iterator<OrderDto.ExportRow> rows, Writer writer, Progress progress) throws IOException {
+        JsonGenerator json = objectMapper.getFactory().createGenerator(writer);
+        json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        json.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        json.setRootValueSeparator(null);
+        try (json) {
+            Long currentOrderId = null;
+            while (rows.hasNext()) {
+                OrderDto.ExportRow row = rows.next();
+                if (!row.getOrderId().equals(currentOrderId)) {
+                    if (currentOrderId != null) {
+                        endOrder(json);
+                    }
+                    startOrder(json, row);
+                    currentOrderId = row.getOrderId();
+                    progress.orders++;
+                }
+                if (row.getProductId() != null) {
+                    json.writeStartObject();
+                    json.writeObjectField("product_id", row.getProductId());
+                    json.writeObjectField("product_name", row.getProductName());
+                    json.writeObjectField("quantity", row.getQuantity());
+                    json.writeObjectField("price", row.getPrice());
+                    json.writeEndObject();
+                }
+                progress.rows++;
+            }
+            if (currentOrderId != null) {
+                endOrder(json);
+            }
+        }
+    }
+
+    private static void startOrder(JsonGenerator json, OrderDto.ExportRow row) throws IOException {
+        json.writeStartObject();
+        json.writeObjectField("order_id", row.getOrderId());
+        json.writeObjectField("order_number", row.getOrderNumber());
+        json.writeObjectField("ordered_at", text(row.getOrderedAt()));
+        json.writeObjectField("status", row.getStatus());
+        json.writeObjectField("total_amount", row.getTotalAmount());
+        json.writeObjectField("member_email", row.getMemberEmail());
+        if (row.getPaymentMethod() != null) {
+            json.writeObjectFieldStart("payment");
+            json.writeObjectField("method", row.getPaymentMethod());
+            json.writeObjectField("status", row.getPaymentStatus());
+            json.writeObjectField("amount", row.getPaymentAmount());
+            json.writeObjectField("paid_at", text(row.getPaidAt()));
+            json.writeEndObject();
+        } else {
+            json.writeNullField("payment");
+        }
+        if (row.getDeliveryStatus() != null) {
+            json.writeObjectFieldStart("delivery");
+            json.writeObjectField("status", row.getDeliveryStatus());
+            json.writeObjectField("receiver_name", row.getReceiverName());
+            json.writeObjectField("tracking_number", row.getTrackingNumber());
+            json.writeObjectField("shipped_at", text(row.getShippedAt()));
+            json.writeObjectField("delivered_at", text(row.getDeliveredAt()));
+            json.writeEndObject();
+        } else {
+            json.writeNullField("delivery");
+        }
+        json.writeArrayFieldStart("items");
+    }
+
+    private static void endOrder(JsonGenerator json) throws IOException {
+        json.writeEndArray();
+        json.writeEndObject();
+        json.writeRaw('\n');
+    }
+
+    private static String text(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.toString() : null;
+    }
+
+    private static class Progress {
+        private long orders;
+        private long rows;
+    }
+}
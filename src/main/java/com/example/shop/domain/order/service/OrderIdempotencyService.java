@@ -0,0 +1,104 @@
+package com.example.shop.domain.order.service;
+
+import com.example.shop.domain.order.repository.OrderRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 주문 생성 멱등성: (회원, 요청 키)당 주문은 한 번만 생성하고 중복 요청에는 기존 주문 ID를 돌려준다.
+ * 같은 키의 동시 요청은 먼저 들어온 요청의 결과를 기다리고, 완료된 키는 메모리(최대 건수 + TTL)와
+ * orders(member_id, request_key) 유니크 키로 확인하므로 재시작이나 다른 서버로 재시도된 요청도 흡수한다.
+ * 주문 트랜잭션이 커밋된 뒤 결과를 공유해야 하므로 이 클래스 자체는 트랜잭션을 열지 않는다.
+ */
+@Slf4j
+@Service
+public class OrderIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 64;
+
+    private final OrderRepository orderRepository;
+    private final Cache<String, Long> completed;
+    private final Map<String, CompletableFuture<Long>> inFlight = new ConcurrentHashMap<>();
+
+    public OrderIdempotencyService(OrderRepository orderRepository,
+                                   @Value("${shop.order.idempotency.max-size:10000}") long maxSize,
+                                   @Value("${shop.order.idempotency.ttl:PT1H}") Duration ttl) {
+        this.orderRepository = orderRepository;
+        this.completed = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .build();
+    }
+
+    /** 요청 키가 없으면 그대로 실행, 있으면 최초 한 번만 실행하고 주문 ID를 공유 */
+    public Long execute(Long memberId, String requestKey, Supplier<Long> createOrder) {
+        if (requestKey == null || requestKey.isBlank()) {
+            return createOrder.get();
+        }
+        if (requestKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("잘못된 주문 요청 키입니다.");
+        }
+
+        String key = memberId + ":" + requestKey;
+        Long orderId = completed.getIfPresent(key);
+        if (orderId != null) {
+            return orderId;
+        }
+
+        CompletableFuture<Long> mine = new CompletableFuture<>();
+        CompletableFuture<Long> running = inFlight.putIfAbsent(key, mine);
+        if (running != null) {
+            log.debug("중복 주문 요청 대기: {}", key);
+            return await(running);
+        }
+
+        try {
+            orderId = orderRepository.findIdByMemberIdAndRequestKey(memberId, requestKey)
+                    .orElseGet(() -> create(memberId, requestKey, createOrder));
+            completed.put(key, orderId);
+            mine.complete(orderId);
+            return orderId;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /** 다른 서버가 같은 키로 먼저 커밋했다면 유니크 키 위반 → 그 주문 ID를 사용 */
+    private Long create(Long memberId, String requestKey, Supplier<Long> createOrder) {
+        try {
+            return createOrder.get();
+        } catch (DataIntegrityViolationException e) {
+            Optional<Long> existing = orderRepository.findIdByMemberIdAndRequestKey(memberId, requestKey);
+            if (existing.isPresent()) {
+                return existing.get();
+            }
+            throw e;
+        }
+    }
+
+    private static Long await(CompletableFuture<Long> running) {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
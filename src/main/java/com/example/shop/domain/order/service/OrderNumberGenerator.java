@@ -0,0 +1,7 @@
+package com.example.shop.domain.order.service;
+
+/** 주문번호 생성 전략 (기본 구현: TimeBasedOrderNumberGenerator) */
+public interface OrderNumberGenerator {
+
+    String generate();
+}
@@ -1,23 +1,36 @@
 package com.example.shop.domain.order.service;
 
-import com.example.shop.domain.cart.entity.Cart;
 import com.example.shop.domain.cart.service.CartService;
 import com.example.shop.domain.delivery.entity.Delivery;
+import com.example.shop.domain.delivery.event.DeliveryStatusChangedEvent;
 import com.example.shop.domain.member.entity.Member;
+import com.example.shop.domain.member.repository.MemberRepository;
 import com.example.shop.domain.order.dto.OrderDto;
 import com.example.shop.domain.order.entity.Order;
 import com.example.shop.domain.order.entity.OrderItem;
 import com.example.shop.domain.order.entity.Payment;
+import com.example.shop.domain.order.event.OrderCreatedPayload;
+import com.example.shop.domain.order.event.OrderStatusChangedEvent;
 import com.example.shop.domain.order.repository.OrderRepository;
+import com.example.shop.domain.outbox.entity.OutboxEvent;
+import com.example.shop.domain.outbox.service.OutboxService;
 import com.example.shop.domain.product.entity.Product;
 import com.example.shop.domain.product.repository.ProductRepository;
+import com.example.shop.domain.product.service.StockService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -26,28 +39,40 @@ public class OrderService {
 
     private final OrderRepository orderRepository;
     private final ProductRepository productRepository;
+    private final MemberRepository memberRepository;
     private final CartService cartService;
+    private final StockService stockService;
+    private final OrderNumberGenerator orderNumberGenerator;
+    private final OutboxService outboxService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
-    public Order createFromCart(Member member, OrderDto.CreateRequest request) {
-        Cart cart = cartService.findByMember(member);
+    public Order createFromCart(Long memberId, OrderDto.CreateRequest request) {
+        Map<Long, Integer> quantities = cartService.getQuantities(memberId);
 
-        if (cart.getCartItems().isEmpty()) {
+        if (quantities.isEmpty()) {
             throw new IllegalStateException("장바구니가 비어있습니다.");
         }
 
+        // 주문 가격은 캐시가 아닌 DB 기준: 장바구니 상품을 한 번의 IN 조회로 읽는다
+        Map<Long, Product> products = productRepository.findAllById(quantities.keySet()).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+
         Order order = Order.builder()
-                .member(member)
+                .member(memberRepository.getReferenceById(memberId))
+                .orderNumber(orderNumberGenerator.generate())
+                .requestKey(request.getRequestKey())
                 .status(Order.OrderStatus.PENDING)
                 .totalAmount(0)
                 .build();
 
         int totalAmount = 0;
-        for (var cartItem : cart.getCartItems()) {
-            OrderItem orderItem = OrderItem.createOrderItem(
-                    cartItem.getProduct(),
-                    cartItem.getQuantity()
-            );
+        for (Map.Entry<Long, Integer> line : quantities.entrySet()) {
+            Product product = products.get(line.getKey());
+            if (product == null) {
+                throw new IllegalArgumentException("존재하지 않는 상품입니다.");
+            }
+            OrderItem orderItem = OrderItem.createOrderItem(product, line.getValue());
             order.addOrderItem(orderItem);
             totalAmount += orderItem.getTotalPrice();
         }
@@ -73,21 +98,26 @@ public class OrderService {
 
         order.setStatus(Order.OrderStatus.PAID);
 
+        // 재고 차감은 마지막에: 행 잠금 보유 시간 최소화, 상품 ID 순 일괄 차감으로 교착 방지
+        stockService.decreaseAll(quantities);
+
         Order savedOrder = orderRepository.save(order);
 
-        // 장바구니 비우기
-        cartService.clearCart(member);
+        // 장바구니 비우기와 통계 반영은 아웃박스로 커밋 이후 처리
+        appendCreated(savedOrder, List.copyOf(quantities.keySet()));
 
         return savedOrder;
     }
 
     @Transactional
-    public Order createDirectOrder(Member member, OrderDto.DirectOrderRequest request) {
+    public Order createDirectOrder(Long memberId, OrderDto.DirectOrderRequest request) {
         Product product = productRepository.findById(request.getProductId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다."));
 
         Order order = Order.builder()
-                .member(member)
+                .member(memberRepository.getReferenceById(memberId))
+                .orderNumber(orderNumberGenerator.generate())
+                .requestKey(request.getRequestKey())
                 .status(Order.OrderStatus.PENDING)
                 .totalAmount(0)
                 .build();
@@ -116,7 +146,11 @@ public class OrderService {
 
         order.setStatus(Order.OrderStatus.PAID);
 
-        return orderRepository.save(order);
+        stockService.decrease(product.getId(), orderItem.getQuantity());
+
+        Order savedOrder = orderRepository.save(order);
+        appendCreated(savedOrder, List.of());
+        return savedOrder;
     }
 
     public Order findById(Long id) {
@@ -137,10 +171,39 @@ public class OrderService {
         return orderRepository.findByMemberOrderByOrderedAtDesc(member, pageable);
     }
 
-    /** 주문내역용: 트랜잭션 내에서 DTO로 매핑하여 LazyInitializationException 방지 */
-    public Page<OrderDto.Response> findHistoryByMember(Member member, Pageable pageable) {
-        Page<Order> orders = orderRepository.findByMemberOrderByOrderedAtDesc(member, pageable);
-        return orders.map(OrderDto.Response::from);
+    /** 주문내역용: ID 페이지 조회 후 상세를 일괄 fetch하여 DTO로 매핑 (페이지 크기와 무관하게 ID, COUNT, 상세 쿼리 3회) */
+    public Page<OrderDto.Response> findHistoryByMember(Long memberId, Pageable pageable) {
+        Page<Long> ids = orderRepository.findIdsByMemberId(memberId, pageable);
+        List<OrderDto.Response> content = loadWithDetails(ids.getContent()).stream()
+                .map(OrderDto.Response::from)
+                .toList();
+        return new PageImpl<>(content, pageable, ids.getTotalElements());
+    }
+
+    /** 키셋 페이징: cursor가 null이면 첫 페이지, 쿼리 2회 (ID, 상세) */
+    public OrderDto.CursorPage<OrderDto.Response> findHistoryByMember(Long memberId, OrderDto.Cursor cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Long> ids = cursor == null
+                ? orderRepository.findFirstIdsByMemberId(memberId, limit)
+                : orderRepository.findIdsByMemberIdAfter(memberId, cursor.getOrderedAt(), cursor.getId(), limit);
+
+        boolean hasNext = ids.size() > size;
+        List<Order> orders = loadWithDetails(hasNext ? ids.subList(0, size) : ids);
+        String nextCursor = hasNext && !orders.isEmpty() ? cursorOf(orders.get(orders.size() - 1)).encode() : null;
+        return new OrderDto.CursorPage<>(orders.stream().map(OrderDto.Response::from).toList(), nextCursor, null);
+    }
+
+    /** 상세를 IN 조회로 한 번에 읽고 ID 페이지 순서대로 정렬 */
+    private List<Order> loadWithDetails(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, Order> orders = orderRepository.findAllWithDetailsByIdIn(ids).stream()
+                .collect(Collectors.toMap(Order::getId, Function.identity()));
+        return ids.stream()
+                .map(orders::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     public Page<Order> findAll(Pageable pageable) {
@@ -157,9 +220,25 @@ public class OrderService {
         return orders.map(OrderDto.AdminListResponse::from);
     }
 
+    /** 관리자 목록 키셋 페이징: cursor가 null이면 첫 페이지 */
+    public OrderDto.CursorPage<OrderDto.AdminListResponse> searchForAdmin(Order.OrderStatus status, String keyword,
+                                                                          OrderDto.Cursor cursor, int size) {
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Order> rows = cursor == null
+                ? orderRepository.searchOrdersWithDeliveryFirst(status, keyword, limit)
+                : orderRepository.searchOrdersWithDeliveryAfter(status, keyword, cursor.getOrderedAt(), cursor.getId(), limit);
+        return OrderDto.CursorPage.of(rows, size, OrderService::cursorOf).map(OrderDto.AdminListResponse::from);
+    }
+
+    private static OrderDto.Cursor cursorOf(Order order) {
+        return new OrderDto.Cursor(order.getOrderedAt(), order.getId());
+    }
+
     @Transactional
     public Order updateStatus(Long orderId, Order.OrderStatus status) {
         Order order = findById(orderId);
+        Order.OrderStatus previousStatus = order.getStatus();
+        Delivery.DeliveryStatus previousDeliveryStatus = order.getDelivery().getStatus();
         order.setStatus(status);
 
         // 주문 상태에 따른 배송 상태 연동
@@ -171,13 +250,30 @@ public class OrderService {
             order.getDelivery().complete();
         }
 
+        if (previousStatus != status) {
+            eventPublisher.publishEvent(new OrderStatusChangedEvent(order.getId(), previousStatus, status));
+        }
+        if (previousDeliveryStatus != order.getDelivery().getStatus()) {
+            eventPublisher.publishEvent(new DeliveryStatusChangedEvent(
+                    order.getDelivery().getId(), previousDeliveryStatus, order.getDelivery().getStatus()));
+        }
+
         return order;
     }
 
     @Transactional
     public void cancel(Long orderId) {
         Order order = findById(orderId);
+        Order.OrderStatus previousStatus = order.getStatus();
         order.cancel();
+        eventPublisher.publishEvent(new OrderStatusChangedEvent(order.getId(), previousStatus, order.getStatus()));
+        stockService.increaseAll(order.quantitiesByProduct());
+    }
+
+    private void appendCreated(Order order, List<Long> cartProductIds) {
+        outboxService.append(OutboxEvent.EventType.ORDER_CREATED, order.getId(), new OrderCreatedPayload(
+                order.getMember().getId(), cartProductIds, order.getStatus(),
+                order.getDelivery().getId(), order.getDelivery().getStatus()));
     }
 
     public long count() {
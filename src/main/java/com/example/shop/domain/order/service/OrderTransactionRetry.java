@@ -0,0 +1,64 @@
+package com.example.shop.domain.order.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 주문 생성/취소 트랜잭션 단위 재시도.
+ * 잠금 대기 시간 초과, 교착 상태 희생 등 일시적 오류로 롤백되면 트랜잭션 전체를 처음부터 다시 실행한다.
+ * 문장 하나만 다시 실행하면 앞선 문장의 잠금과 변경이 남은 채 이어지므로, 반드시 트랜잭션 바깥(컨트롤러)에서 호출한다.
+ */
+@Slf4j
+@Component
+public class OrderTransactionRetry {
+
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public OrderTransactionRetry(@Value("${shop.order.retry.max-attempts:3}") int maxAttempts,
+                                 @Value("${shop.order.retry.backoff:PT0.01S}") Duration backoff) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("shop.order.retry.max-attempts는 1 이상이어야 합니다.");
+        }
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = Math.max(1, backoff.toMillis());
+    }
+
+    /** 일시적 오류는 지수 백오프(+지터)로 제한 횟수만큼 트랜잭션째 재시도 */
+    public <T> T execute(Supplier<T> transaction) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("주문 트랜잭션 재시도는 트랜잭션 밖에서 호출해야 합니다.");
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.get();
+            } catch (TransientDataAccessException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+                long backoff = backoffMillis << (attempt - 1);
+                log.debug("주문 트랜잭션 재시도 {}/{}: {}", attempt, maxAttempts, e.getMessage());
+                try {
+                    Thread.sleep(backoff + ThreadLocalRandom.current().nextLong(backoff));
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    public void run(Runnable transaction) {
+        execute(() -> {
+            transaction.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.shop.domain.order.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간순 주문번호: yyMMddHHmmssSSS(15) + 노드ID(2) + 밀리초 내 순번(3) = 20자리 숫자.
+ * 상태(밀리초 * 1000 + 순번)를 CAS로 단조 증가시키므로 잠금·난수 없이 한 노드 안에서 중복되지 않는다.
+ * 같은 밀리초에 1000건을 넘으면 다음 밀리초 값을 미리 사용하고, 시계가 뒤로 가도 이전 값 이후로 이어간다.
+ * 시각은 서버 기본 시간대가 아닌 Asia/Seoul로 표기한다 (일광절약시간 전환 시 같은 시각이 반복되지 않도록).
+ */
+@Component
+public class TimeBasedOrderNumberGenerator implements OrderNumberGenerator {
+
+    private static final int SEQUENCE_RANGE = 1000;
+    private static final DateTimeFormatter TIMESTAMP = DateTimeFormatter.ofPattern("yyMMddHHmmssSSS")
+            .withZone(ZoneId.of("Asia/Seoul"));
+
+    private final Clock clock;
+    private final String nodeId;
+    private final AtomicLong state = new AtomicLong();
+
+    @Autowired
+    public TimeBasedOrderNumberGenerator(@Value("${shop.order.node-id:0}") int nodeId) {
+        this(nodeId, Clock.systemUTC());
+    }
+
+    /** 시계 지정 (테스트용) */
+    TimeBasedOrderNumberGenerator(int nodeId, Clock clock) {
+        this.clock = clock;
+        if (nodeId < 0 || nodeId > 99) {
+            throw new IllegalArgumentException("shop.order.node-id는 0~99 사이여야 합니다: " + nodeId);
+        }
+        this.nodeId = String.format("%02d", nodeId);
+    }
+
+    @Override
+    public String generate() {
+        long now = clock.millis() * SEQUENCE_RANGE;
+        long next = state.updateAndGet(prev -> Math.max(prev + 1, now));
+
+        long millis = next / SEQUENCE_RANGE;
+        int sequence = (int) (next % SEQUENCE_RANGE);
+
+        StringBuilder sb = new StringBuilder(20);
+        TIMESTAMP.formatTo(Instant.ofEpochMilli(millis), sb);
+        sb.append(nodeId);
+        if (sequence < 100) sb.append('0');
+        if (sequence < 10) sb.append('0');
+        sb.append(sequence);
+        return sb.toString();
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.shop.domain.outbox.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/** 트랜잭션 아웃박스: 업무 트랜잭션과 함께 기록하고 커밋 이후 백그라운드 워커가 후속 처리를 수행 */
+@Entity
+@Table(name = "outbox_event", indexes = {
+    @Index(name = "idx_outbox_event_status_next_attempt", columnList = "status, nextAttemptAt"),
+    @Index(name = "idx_outbox_event_status_processed", columnList = "status, processedAt")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "outbox_event_seq")
+    @SequenceGenerator(name = "outbox_event_seq", sequenceName = "outbox_event_seq", allocationSize = 50)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private EventType eventType;
+
+    @Column(nullable = false)
+    private Long aggregateId;
+
+    @Column(length = 4000)
+    private String payload;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status;
+
+    @Column(nullable = false)
+    private Integer attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 1000)
+    private String lastError;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime processedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        if (status == null) {
+            status = Status.PENDING;
+        }
+        if (attempts == null) {
+            attempts = 0;
+        }
+        if (nextAttemptAt == null) {
+            nextAttemptAt = createdAt;
+        }
+    }
+
+    public void markDone() {
+        this.status = Status.DONE;
+        this.processedAt = LocalDateTime.now();
+        this.lastError = null;
+    }
+
+    /** 실패 기록: 최대 시도 횟수에 도달하면 DEAD(수동 확인 대상), 아니면 지연 후 재시도 */
+    public void markFailed(String error, int maxAttempts, long backoffSeconds) {
+        this.attempts++;
+        this.lastError = error != null && error.length() > 1000 ? error.substring(0, 1000) : error;
+        if (attempts >= maxAttempts) {
+            this.status = Status.DEAD;
+        } else {
+            this.nextAttemptAt = LocalDateTime.now().plusSeconds(backoffSeconds);
+        }
+    }
+
+    public enum EventType {
+        ORDER_CREATED
+    }
+
+    public enum Status {
+        PENDING, DONE, DEAD
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.shop.domain.outbox.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 아웃박스 기록 알림: 커밋 직후 워커를 깨워 폴링 주기를 기다리지 않게 한다 */
+@Getter
+@RequiredArgsConstructor
+public class OutboxAppendedEvent {
+
+    private final Long outboxEventId;
+}
@@ -0,0 +1,40 @@
+package com.example.shop.domain.outbox.repository;
+
+import com.example.shop.domain.outbox.entity.OutboxEvent;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /** 처리 대상: PENDING 이고 재시도 시각이 지난 이벤트 (ID 순) */
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.status = :status AND e.nextAttemptAt <= :now ORDER BY e.id")
+    List<Long> findDueIds(@Param("status") OutboxEvent.Status status,
+                          @Param("now") LocalDateTime now,
+                          Pageable pageable);
+
+    /** 처리 중 행 잠금: 여러 인스턴스가 같은 이벤트를 동시에 처리하지 않도록 */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM OutboxEvent e WHERE e.id = :id")
+    Optional<OutboxEvent> findByIdForUpdate(@Param("id") Long id);
+
+    /** 보관 기간이 지난 처리 완료 이벤트 (ID 순) */
+    @Query("SELECT e.id FROM OutboxEvent e WHERE e.status = :status AND e.processedAt < :before ORDER BY e.id")
+    List<Long> findProcessedIdsBefore(@Param("status") OutboxEvent.Status status,
+                                      @Param("before") LocalDateTime before,
+                                      Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.id IN :ids")
+    int deleteAllByIdIn(@Param("ids") List<Long> ids);
+
+    long countByStatus(OutboxEvent.Status status);
+}
@@ -0,0 +1,11 @@
+package com.example.shop.domain.outbox.service;
+
+import com.example.shop.domain.outbox.entity.OutboxEvent;
+
+/** 이벤트 유형별 후속 처리: 워커의 트랜잭션 안에서 호출되며, 재시도될 수 있으므로 멱등해야 한다 */
+public interface OutboxEventHandler {
+
+    OutboxEvent.EventType eventType();
+
+    void handle(OutboxEvent event);
+}
@@ -0,0 +1,54 @@
+package com.example.shop.domain.outbox.service;
+
+import com.example.shop.domain.outbox.entity.OutboxEvent;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/** 아웃박스 처리량(누적 건수)과 지연(기록 → 처리 완료) 지표 */
+@Component
+public class OutboxMetrics {
+
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder dead = new LongAdder();
+    private final AtomicLong lastLagMillis = new AtomicLong();
+    private final AtomicLong maxLagMillis = new AtomicLong();
+
+    void recordProcessed(OutboxEvent event) {
+        processed.increment();
+        long lag = Math.max(0, Duration.between(event.getCreatedAt(), event.getProcessedAt()).toMillis());
+        lastLagMillis.set(lag);
+        maxLagMillis.accumulateAndGet(lag, Math::max);
+    }
+
+    /** 재시도 예정 실패와 최대 시도 초과(DEAD)를 구분하여 기록 */
+    void recordFailed(boolean isDead) {
+        failed.increment();
+        if (isDead) {
+            dead.increment();
+        }
+    }
+
+    public long getProcessed() {
+        return processed.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getDead() {
+        return dead.sum();
+    }
+
+    public long getLastLagMillis() {
+        return lastLagMillis.get();
+    }
+
+    public long getMaxLagMillis() {
+        return maxLagMillis.get();
+    }
+}
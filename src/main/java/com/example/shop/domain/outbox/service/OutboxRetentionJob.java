@@ -0,0 +1,69 @@
+package com.example.shop.domain.outbox.service;
+
+import com.example.shop.config.sql.SqlScope;
+import com.example.shop.domain.outbox.entity.OutboxEvent;
+import com.example.shop.domain.outbox.repository.OutboxEventRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 아웃박스 보관 기간 정리: 처리 완료(DONE) 후 보관 기간이 지난 행을 배치 단위로 삭제한다.
+ * 배치마다 트랜잭션을 나눠 잠금과 언두 로그를 짧게 유지하며, DEAD 행은 수동 확인 대상이므로 남긴다.
+ */
+@Slf4j
+@Component
+public class OutboxRetentionJob {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration retention;
+    private final int batchSize;
+
+    public OutboxRetentionJob(OutboxEventRepository outboxEventRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${shop.outbox.retention.period:P7D}") Duration retention,
+                              @Value("${shop.outbox.retention.batch-size:1000}") int batchSize) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retention = retention;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${shop.outbox.retention.interval:PT1H}",
+               initialDelayString = "${shop.outbox.retention.interval:PT1H}")
+    public void purge() {
+        purgeProcessedBefore(LocalDateTime.now().minus(retention));
+    }
+
+    /** 삭제한 행 수 */
+    public long purgeProcessedBefore(LocalDateTime before) {
+        long deleted = 0;
+        // 배치마다 같은 조회/삭제가 반복되는 것이 정상이므로 N+1 감지와 분리해 문 수만 센다
+        try (SqlScope ignored = SqlScope.open("아웃박스 정리", Integer.MAX_VALUE)) {
+            while (true) {
+                Integer count = transactionTemplate.execute(status -> {
+                    List<Long> ids = outboxEventRepository.findProcessedIdsBefore(
+                            OutboxEvent.Status.DONE, before, PageRequest.of(0, batchSize));
+                    return ids.isEmpty() ? 0 : outboxEventRepository.deleteAllByIdIn(ids);
+                });
+                deleted += count;
+                if (count < batchSize) {
+                    break;
+                }
+            }
+        }
+        if (deleted > 0) {
+            log.info("아웃박스 정리: 처리 완료 이벤트 {}건 삭제 (기준 {})", deleted, before);
+        }
+        return deleted;
+    }
+}
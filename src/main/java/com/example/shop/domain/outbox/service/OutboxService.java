@@ -0,0 +1,54 @@
+package com.example.shop.domain.outbox.service;
+
+import com.example.shop.domain.outbox.entity.OutboxEvent;
+import com.example.shop.domain.outbox.event.OutboxAppendedEvent;
+import com.example.shop.domain.outbox.repository.OutboxEventRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class OutboxService {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 호출한 업무 트랜잭션에 함께 기록 (트랜잭션 밖 호출은 허용하지 않음) */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public OutboxEvent append(OutboxEvent.EventType eventType, Long aggregateId, Object payload) {
+        OutboxEvent event = outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(eventType)
+                .aggregateId(aggregateId)
+                .payload(write(payload))
+                .build());
+        eventPublisher.publishEvent(new OutboxAppendedEvent(event.getId()));
+        return event;
+    }
+
+    public <T> T readPayload(OutboxEvent event, Class<T> type) {
+        try {
+            return objectMapper.readValue(event.getPayload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("아웃박스 이벤트 내용을 읽을 수 없습니다: " + event.getId(), e);
+        }
+    }
+
+    public long countByStatus(OutboxEvent.Status status) {
+        return outboxEventRepository.countByStatus(status);
+    }
+
+    private String write(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트 내용을 직렬화할 수 없습니다.", e);
+        }
+    }
+}
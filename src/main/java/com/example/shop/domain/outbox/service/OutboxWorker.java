@@ -0,0 +1,197 @@
+package com.example.shop.domain.outbox.service;
+
+import com.example.shop.domain.outbox.entity.OutboxEvent;
+import com.example.shop.domain.outbox.event.OutboxAppendedEvent;
+import com.example.shop.domain.outbox.repository.OutboxEventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 아웃박스 처리기: 단일 디스패처가 처리 대상 ID를 배치로 읽어 워커 풀에 나눠 주고,
+ * 각 이벤트는 행 잠금을 잡은 별도 트랜잭션에서 핸들러 실행과 DONE 표시를 함께 커밋한다.
+ * 실패하면 지수 백오프로 재시도하고 최대 시도 횟수를 넘으면 DEAD로 남긴다.
+ * 커밋 직후 알림으로 바로 깨어나며, 알림이 유실되거나 재시도 대기 중인 이벤트는 주기적 폴링으로 처리한다.
+ */
+@Slf4j
+@Component
+public class OutboxWorker {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final OutboxMetrics metrics;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<OutboxEvent.EventType, OutboxEventHandler> handlers = new EnumMap<>(OutboxEvent.EventType.class);
+
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration backoff;
+    private final Duration maxBackoff;
+
+    private final ExecutorService dispatcher;
+    private final ExecutorService workers;
+    private final AtomicBoolean dispatchRequested = new AtomicBoolean();
+    private volatile boolean running = true;
+
+    public OutboxWorker(OutboxEventRepository outboxEventRepository,
+                        OutboxMetrics metrics,
+                        PlatformTransactionManager transactionManager,
+                        List<OutboxEventHandler> handlers,
+                        @Value("${shop.outbox.workers:4}") int workerCount,
+                        @Value("${shop.outbox.batch-size:100}") int batchSize,
+                        @Value("${shop.outbox.max-attempts:10}") int maxAttempts,
+                        @Value("${shop.outbox.backoff:PT1S}") Duration backoff,
+                        @Value("${shop.outbox.max-backoff:PT5M}") Duration maxBackoff) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.metrics = metrics;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        for (OutboxEventHandler handler : handlers) {
+            if (this.handlers.put(handler.eventType(), handler) != null) {
+                throw new IllegalStateException("아웃박스 핸들러가 중복되었습니다: " + handler.eventType());
+            }
+        }
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.backoff = backoff;
+        this.maxBackoff = maxBackoff;
+        this.dispatcher = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("outbox-dispatcher").factory());
+        this.workers = Executors.newFixedThreadPool(workerCount, Thread.ofPlatform().name("outbox-worker-", 1).factory());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onAppended(OutboxAppendedEvent event) {
+        wakeUp();
+    }
+
+    @Scheduled(fixedDelayString = "${shop.outbox.poll-interval:PT1S}")
+    public void poll() {
+        wakeUp();
+    }
+
+    /** 이미 디스패치가 예약되어 있으면 합친다 */
+    public void wakeUp() {
+        if (running && dispatchRequested.compareAndSet(false, true)) {
+            try {
+                dispatcher.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                dispatchRequested.set(false);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        dispatcher.shutdown();
+        dispatcher.awaitTermination(10, TimeUnit.SECONDS);
+        workers.shutdown();
+        if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("아웃박스 워커가 제시간에 종료되지 않았습니다. 미처리 이벤트는 재기동 후 처리됩니다.");
+        }
+    }
+
+    /** 처리 대상이 배치 크기보다 적게 남을 때까지 반복 */
+    private void drain() {
+        dispatchRequested.set(false);
+        try {
+            while (running) {
+                List<Long> ids = outboxEventRepository.findDueIds(
+                        OutboxEvent.Status.PENDING, LocalDateTime.now(), PageRequest.of(0, batchSize));
+                if (ids.isEmpty()) {
+                    return;
+                }
+                List<Callable<Boolean>> tasks = ids.stream()
+                        .map(id -> (Callable<Boolean>) () -> process(id))
+                        .toList();
+                boolean progressed = false;
+                for (Future<Boolean> result : workers.invokeAll(tasks)) {
+                    progressed |= result.get();
+                }
+                if (ids.size() < batchSize || !progressed) {
+                    return;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException | ExecutionException e) {
+            log.error("아웃박스 디스패치 실패", e);
+        }
+    }
+
+    /** 처리(또는 실패 기록)했으면 true, 다른 처리기가 먼저 끝낸 이벤트면 false */
+    private boolean process(Long id) {
+        try {
+            OutboxEvent done = transactionTemplate.execute(status -> {
+                OutboxEvent event = outboxEventRepository.findByIdForUpdate(id).orElse(null);
+                if (event == null || event.getStatus() != OutboxEvent.Status.PENDING) {
+                    return null;
+                }
+                handler(event).handle(event);
+                event.markDone();
+                return event;
+            });
+            if (done == null) {
+                return false;
+            }
+            metrics.recordProcessed(done);
+            return true;
+        } catch (RuntimeException e) {
+            recordFailure(id, e);
+            return true;
+        }
+    }
+
+    private OutboxEventHandler handler(OutboxEvent event) {
+        OutboxEventHandler handler = handlers.get(event.getEventType());
+        if (handler == null) {
+            throw new IllegalStateException("아웃박스 핸들러가 없습니다: " + event.getEventType());
+        }
+        return handler;
+    }
+
+    /** 핸들러 트랜잭션은 롤백되었으므로 새 트랜잭션에서 시도 횟수와 오류를 기록 */
+    private void recordFailure(Long id, RuntimeException cause) {
+        try {
+            OutboxEvent failed = transactionTemplate.execute(status -> {
+                OutboxEvent event = outboxEventRepository.findByIdForUpdate(id).orElse(null);
+                if (event == null || event.getStatus() != OutboxEvent.Status.PENDING) {
+                    return null;
+                }
+                event.markFailed(cause.toString(), maxAttempts, backoffSeconds(event.getAttempts() + 1));
+                return event;
+            });
+            if (failed == null) {
+                return;
+            }
+            boolean isDead = failed.getStatus() == OutboxEvent.Status.DEAD;
+            metrics.recordFailed(isDead);
+            if (isDead) {
+                log.error("아웃박스 이벤트 처리 포기(DEAD): id={}, type={}, attempts={}",
+                        id, failed.getEventType(), failed.getAttempts(), cause);
+            } else {
+                log.warn("아웃박스 이벤트 처리 실패, 재시도 예정: id={}, attempts={}, next={}",
+                        id, failed.getAttempts(), failed.getNextAttemptAt(), cause);
+            }
+        } catch (RuntimeException e) {
+            log.error("아웃박스 실패 기록 실패: id={}", id, e);
+        }
+    }
+
+    /** backoff * 2^(n-1), 최대 maxBackoff */
+    private long backoffSeconds(int attempt) {
+        long seconds = backoff.toSeconds() << Math.min(attempt - 1, 20);
+        return Math.max(1, Math.min(seconds, maxBackoff.toSeconds()));
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.shop.domain.product.controller;
 
+import com.example.shop.config.sql.SqlBudget;
 import com.example.shop.domain.product.dto.ProductDto;
 import com.example.shop.domain.product.entity.Product;
 import com.example.shop.domain.product.service.ProductService;
@@ -21,6 +22,7 @@ public class ProductController {
 
     private final ProductService productService;
 
+    @SqlBudget(3)
     @GetMapping
     public String list(@RequestParam(defaultValue = "") String keyword,
                       @RequestParam(required = false) String category,
@@ -39,10 +41,10 @@ public class ProductController {
 
         Pageable pageable = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "createdAt"));
         Page<Product> products = productService.search(condition, pageable);
-        List<String> categories = productService.getAllCategories();
+        List<ProductDto.CategoryFacet> categoryFacets = productService.getCategoryFacets();
 
         model.addAttribute("products", products);
-        model.addAttribute("categories", categories);
+        model.addAttribute("categoryFacets", categoryFacets);
         model.addAttribute("keyword", keyword);
         model.addAttribute("category", category);
         model.addAttribute("minPrice", minPrice);
@@ -51,10 +53,10 @@ public class ProductController {
         return "product/list";
     }
 
+    @SqlBudget(2)
     @GetMapping("/{id}")
     public String detail(@PathVariable Long id, Model model) {
-        Product product = productService.findById(id);
-        model.addAttribute("product", ProductDto.Response.from(product));
+        model.addAttribute("product", productService.findResponseById(id));
         return "product/detail";
     }
 }
@@ -4,8 +4,11 @@ import com.example.shop.domain.product.entity.Product;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import lombok.*;
 
+import java.util.List;
+
 public class ProductDto {
 
     @Getter
@@ -14,9 +17,14 @@ public class ProductDto {
     @AllArgsConstructor
     @Builder
     public static class CreateRequest {
+        @Size(max = 64, message = "상품 코드는 64자 이하여야 합니다")
+        private String sku;
+
         @NotBlank(message = "상품명은 필수입니다")
+        @Size(max = 255, message = "상품명은 255자 이하여야 합니다")
         private String name;
 
+        @Size(max = 2000, message = "상품 설명은 2000자 이하여야 합니다")
         private String description;
 
         @NotNull(message = "가격은 필수입니다")
@@ -27,7 +35,10 @@ public class ProductDto {
         @Min(value = 0, message = "재고수량은 0 이상이어야 합니다")
         private Integer stockQuantity;
 
+        @Size(max = 255, message = "카테고리는 255자 이하여야 합니다")
         private String category;
+
+        @Size(max = 255, message = "이미지 URL은 255자 이하여야 합니다")
         private String imageUrl;
 
         // 디폴트 값 설정
@@ -50,8 +61,10 @@ public class ProductDto {
     @Builder
     public static class UpdateRequest {
         @NotBlank(message = "상품명은 필수입니다")
+        @Size(max = 255, message = "상품명은 255자 이하여야 합니다")
         private String name;
 
+        @Size(max = 2000, message = "상품 설명은 2000자 이하여야 합니다")
         private String description;
 
         @NotNull(message = "가격은 필수입니다")
@@ -62,8 +75,12 @@ public class ProductDto {
         @Min(value = 0, message = "재고수량은 0 이상이어야 합니다")
         private Integer stockQuantity;
 
+        @Size(max = 255, message = "카테고리는 255자 이하여야 합니다")
         private String category;
+
+        @Size(max = 255, message = "이미지 URL은 255자 이하여야 합니다")
         private String imageUrl;
+
         private Boolean isActive;
     }
 
@@ -109,4 +126,34 @@ public class ProductDto {
         private Integer minPrice;
         private Integer maxPrice;
     }
+
+    /** 상품 목록 카테고리 필터용: 활성 상품 수와 가격 범위 */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CategoryFacet {
+        private String category;
+        private Integer productCount;
+        private Integer minPrice;
+        private Integer maxPrice;
+    }
+
+    /** 상품 일괄 등록 결과: 오류는 앞에서부터 최대 건수까지만 보관 (errorCount는 전체) */
+    @Getter
+    @AllArgsConstructor
+    public static class ImportResult {
+        private long rows;
+        private long inserted;
+        private long updated;
+        private long failed;
+        private long elapsedMillis;
+        private List<String> errors;
+
+        public String summary() {
+            return String.format("상품 일괄 등록: 전체 %,d행 중 등록 %,d, 수정 %,d, 실패 %,d (%.1f초)",
+                    rows, inserted, updated, failed, elapsedMillis / 1000.0);
+        }
+    }
 }
@@ -8,6 +8,8 @@ import java.time.LocalDateTime;
 @Table(name = "product", indexes = {
     @Index(name = "idx_product_category", columnList = "category"),
     @Index(name = "idx_product_name", columnList = "name")
+}, uniqueConstraints = {
+    @UniqueConstraint(name = "uk_product_sku", columnNames = "sku")
 })
 @Getter
 @Setter
@@ -17,9 +19,14 @@ import java.time.LocalDateTime;
 public class Product {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq")
+    @SequenceGenerator(name = "product_seq", sequenceName = "product_seq", allocationSize = 50)
     private Long id;
 
+    /** 공급사 상품 코드: 일괄 등록 시 기존 상품을 찾는 키 (직접 등록한 상품은 없을 수 있음) */
+    @Column(length = 64)
+    private String sku;
+
     @Column(nullable = false)
     private String name;
 
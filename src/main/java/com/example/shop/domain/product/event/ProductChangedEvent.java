@@ -0,0 +1,18 @@
+package com.example.shop.domain.product.event;
+
+import com.example.shop.domain.product.entity.Product;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 상품 등록/수정/삭제 이벤트: 커밋 이후 검색 인덱스 등 메모리 구조 갱신용 */
+@Getter
+@RequiredArgsConstructor
+public class ProductChangedEvent {
+
+    private final Product product;
+    private final Type type;
+
+    public enum Type {
+        CREATED, UPDATED, DELETED
+    }
+}
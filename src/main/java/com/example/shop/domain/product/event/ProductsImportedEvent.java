@@ -0,0 +1,13 @@
+package com.example.shop.domain.product.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 상품 일괄 등록 완료 이벤트: 상품별 ProductChangedEvent 대신 끝에서 한 번 발행하여 검색 인덱스/캐시를 한 번에 다시 구성한다 */
+@Getter
+@RequiredArgsConstructor
+public class ProductsImportedEvent {
+
+    private final long inserted;
+    private final long updated;
+}
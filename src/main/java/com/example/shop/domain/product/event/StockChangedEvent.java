@@ -0,0 +1,12 @@
+package com.example.shop.domain.product.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/** 재고 차감/복원 이벤트: 커밋 이후 상품 캐시 무효화용 */
+@Getter
+@RequiredArgsConstructor
+public class StockChangedEvent {
+
+    private final Long productId;
+}
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
@@ -17,20 +18,60 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     Page<Product> findByIsActiveTrue(Pageable pageable);
 
+    @Query("SELECT p.id FROM Product p WHERE p.isActive = true")
+    List<Long> findActiveIds(Pageable pageable);
+
+    /** 상품 검색 인덱스 구성: 활성 상품을 ID 순으로 나눠 읽는다 */
+    @Query("SELECT p FROM Product p WHERE p.isActive = true AND p.id > :afterId ORDER BY p.id")
+    List<Product> findActiveAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /** 카테고리 facet 구성: 비활성 포함 전체 상품을 ID 순으로 나눠 읽는다 */
+    @Query("SELECT p FROM Product p WHERE p.id > :afterId ORDER BY p.id")
+    List<Product> findAllAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+    /**
+     * 검색 인덱스 구성 중 대체 조회: 인덱스와 같게 상품명과 설명 앞 descriptionLength자를 대소문자 구분 없이 비교한다.
+     * keyword는 escapeLike로 이스케이프해서 넘긴다.
+     */
     @Query("SELECT p FROM Product p WHERE p.isActive = true AND " +
-           "(:keyword IS NULL OR p.name LIKE CONCAT('%', :keyword, '%') OR p.description LIKE CONCAT('%', :keyword, '%')) AND " +
+           "(:keyword IS NULL OR LOWER(p.name) LIKE CONCAT('%', LOWER(:keyword), '%') ESCAPE '\\' " +
+           "OR LOWER(SUBSTRING(p.description, 1, :descriptionLength)) LIKE CONCAT('%', LOWER(:keyword), '%') ESCAPE '\\') AND " +
            "(:category IS NULL OR p.category = :category) AND " +
            "(:minPrice IS NULL OR p.price >= :minPrice) AND " +
            "(:maxPrice IS NULL OR p.price <= :maxPrice)")
     Page<Product> searchProducts(
             @Param("keyword") String keyword,
+            @Param("descriptionLength") int descriptionLength,
             @Param("category") String category,
             @Param("minPrice") Integer minPrice,
             @Param("maxPrice") Integer maxPrice,
             Pageable pageable);
 
-    @Query("SELECT DISTINCT p.category FROM Product p WHERE p.category IS NOT NULL")
-    List<String> findAllCategories();
+    /** 검색 인덱스: 설명 2-gram으로 고른 후보 중 설명 앞 descriptionLength자에 키워드가 실제로 있는 상품 */
+    @Query("SELECT p.id FROM Product p WHERE p.id IN :ids AND " +
+           "LOWER(SUBSTRING(p.description, 1, :descriptionLength)) LIKE CONCAT('%', LOWER(:keyword), '%') ESCAPE '\\'")
+    List<Long> findIdsByDescriptionLike(@Param("ids") Collection<Long> ids,
+                                        @Param("keyword") String keyword,
+                                        @Param("descriptionLength") int descriptionLength);
+
+    /** 후보가 많을 때: 후보 ID 범위를 한 번에 훑는다 (범위 안의 다른 상품은 호출하는 쪽에서 거른다) */
+    @Query("SELECT p.id FROM Product p WHERE p.id BETWEEN :fromId AND :toId AND " +
+           "LOWER(SUBSTRING(p.description, 1, :descriptionLength)) LIKE CONCAT('%', LOWER(:keyword), '%') ESCAPE '\\'")
+    List<Long> findIdsByDescriptionLikeBetween(@Param("fromId") long fromId,
+                                               @Param("toId") long toId,
+                                               @Param("keyword") String keyword,
+                                               @Param("descriptionLength") int descriptionLength);
+
+    /** 키워드를 LIKE 패턴 안에 글자 그대로 넣도록 %, _, \ 를 이스케이프 (ESCAPE '\') */
+    static String escapeLike(String keyword) {
+        if (keyword == null) {
+            return null;
+        }
+        return keyword.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
 
     Page<Product> findAllByOrderByCreatedAtDesc(Pageable pageable);
+
+    /** 일괄 등록: 청크에 포함된 상품 코드의 기존 상품 */
+    List<Product> findBySkuIn(Collection<String> skus);
 }
@@ -0,0 +1,161 @@
+package com.example.shop.domain.product.service;
+
+import com.example.shop.domain.product.dto.ProductDto;
+import com.example.shop.domain.product.entity.Product;
+import com.example.shop.domain.product.event.ProductChangedEvent;
+import com.example.shop.domain.product.event.ProductsImportedEvent;
+import com.example.shop.domain.product.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 카테고리 목록과 카테고리별 활성 상품 수/가격 범위(facet).
+ * 상품 등록/수정/삭제 커밋 시 해당 상품의 이전 상태를 빼고 새 상태를 더하는 방식으로 갱신하며,
+ * 조회는 불변 스냅샷을 반환하므로 목록 화면에서 DISTINCT 쿼리가 필요 없다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CategoryFacetService {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private final ProductRepository productRepository;
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, Facet> facets = new TreeMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private volatile List<String> categories = List.of();
+    private volatile List<ProductDto.CategoryFacet> activeFacets = List.of();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        lock.lock();
+        try {
+            entries.clear();
+            facets.clear();
+            // 엔티티를 한꺼번에 올리지 않도록 ID 순 페이지로 읽는다
+            long afterId = 0;
+            List<Product> page;
+            do {
+                page = productRepository.findAllAfter(afterId, PageRequest.of(0, PAGE_SIZE));
+                for (Product product : page) {
+                    add(Entry.from(product));
+                }
+                if (!page.isEmpty()) {
+                    afterId = page.get(page.size() - 1).getId();
+                }
+            } while (page.size() == PAGE_SIZE);
+            publish();
+        } finally {
+            lock.unlock();
+        }
+        log.info("카테고리 facet 구성 완료: 카테고리 {}개", categories.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        Entry next = Entry.from(event.getProduct());
+        lock.lock();
+        try {
+            Entry previous = entries.get(next.id());
+            if (previous != null) {
+                remove(previous);
+            }
+            add(next);
+            publish();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        rebuild();
+    }
+
+    /** 상품이 하나라도 있는 카테고리 (비활성 포함, 이름순) */
+    public List<String> getCategories() {
+        return categories;
+    }
+
+    /** 활성 상품이 있는 카테고리만 (이름순) */
+    public List<ProductDto.CategoryFacet> getActiveFacets() {
+        return activeFacets;
+    }
+
+    private void add(Entry entry) {
+        entries.put(entry.id(), entry);
+        if (entry.category() == null) {
+            return;
+        }
+        Facet facet = facets.computeIfAbsent(entry.category(), k -> new Facet());
+        facet.total++;
+        if (entry.active()) {
+            facet.active++;
+            if (entry.price() != null) {
+                facet.prices.merge(entry.price(), 1, Integer::sum);
+            }
+        }
+    }
+
+    private void remove(Entry entry) {
+        entries.remove(entry.id());
+        Facet facet = entry.category() == null ? null : facets.get(entry.category());
+        if (facet == null) {
+            return;
+        }
+        facet.total--;
+        if (entry.active()) {
+            facet.active--;
+            if (entry.price() != null) {
+                facet.prices.computeIfPresent(entry.price(), (price, count) -> count > 1 ? count - 1 : null);
+            }
+        }
+        if (facet.total == 0) {
+            facets.remove(entry.category());
+        }
+    }
+
+    private void publish() {
+        List<ProductDto.CategoryFacet> active = new ArrayList<>();
+        for (Map.Entry<String, Facet> e : facets.entrySet()) {
+            Facet facet = e.getValue();
+            if (facet.active > 0) {
+                active.add(ProductDto.CategoryFacet.builder()
+                        .category(e.getKey())
+                        .productCount(facet.active)
+                        .minPrice(facet.prices.isEmpty() ? null : facet.prices.firstKey())
+                        .maxPrice(facet.prices.isEmpty() ? null : facet.prices.lastKey())
+                        .build());
+            }
+        }
+        categories = List.copyOf(facets.keySet());
+        activeFacets = List.copyOf(active);
+    }
+
+    /** 카테고리별 집계: 가격은 (가격 → 상품 수)로 보관하여 삭제 시에도 최소/최대를 바로 구한다 */
+    private static class Facet {
+        private int total;
+        private int active;
+        private final TreeMap<Integer, Integer> prices = new TreeMap<>();
+    }
+
+    private record Entry(Long id, String category, Integer price, boolean active) {
+
+        static Entry from(Product product) {
+            return new Entry(product.getId(), product.getCategory(), product.getPrice(),
+                    Boolean.TRUE.equals(product.getIsActive()));
+        }
+    }
+}
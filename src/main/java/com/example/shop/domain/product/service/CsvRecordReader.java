@@ -0,0 +1,111 @@
+package com.example.shop.domain.product.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RFC 4180 CSV를 레코드 단위로 읽는다 (따옴표 안의 구분자/줄바꿈, "" 이스케이프, CRLF/LF, 선두 BOM).
+ * 고정 크기 문자 버퍼로만 읽으므로 파일 크기와 무관하게 한 레코드만큼의 메모리만 쓴다.
+ */
+class CsvRecordReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Reader reader;
+    private final char[] buffer = new char[BUFFER_SIZE];
+    private final StringBuilder field = new StringBuilder();
+    private int position;
+    private int limit;
+    private boolean first = true;
+
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /** 다음 레코드의 필드 목록, 끝이면 null (빈 줄은 건너뛴다) */
+    List<String> next() throws IOException {
+        while (true) {
+            int c = read();
+            if (c < 0) {
+                return null;
+            }
+            if (c == '\r' || c == '\n') {
+                continue;
+            }
+            return readRecord(c);
+        }
+    }
+
+    private List<String> readRecord(int c) throws IOException {
+        List<String> fields = new ArrayList<>();
+        field.setLength(0);
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c < 0) {
+                    throw new IllegalArgumentException("CSV 따옴표가 닫히지 않았습니다.");
+                }
+                if (c == '"') {
+                    int nextChar = read();
+                    if (nextChar == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = nextChar;
+                        continue;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\r' || c == '\n' || c < 0) {
+                fields.add(field.toString());
+                if (c == '\r') {
+                    skipLineFeed();
+                }
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+    }
+
+    private void skipLineFeed() throws IOException {
+        if (fill() && buffer[position] == '\n') {
+            position++;
+        }
+    }
+
+    private int read() throws IOException {
+        if (!fill()) {
+            return -1;
+        }
+        char c = buffer[position++];
+        if (first) {
+            first = false;
+            if (c == '\uFEFF') {
+                return read();
+            }
+        }
+        return c;
+    }
+
+    private boolean fill() throws IOException {
+        while (position >= limit) {
+            limit = reader.read(buffer, 0, buffer.length);
+            position = 0;
+            if (limit < 0) {
+                limit = 0;
+                return false;
+            }
+        }
+        return true;
+    }
+}
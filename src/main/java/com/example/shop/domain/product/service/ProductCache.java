@@ -0,0 +1,108 @@
+package com.example.shop.domain.product.service;
+
+import com.example.shop.domain.product.dto.ProductDto;
+import com.example.shop.domain.product.event.ProductChangedEvent;
+import com.example.shop.domain.product.event.ProductsImportedEvent;
+import com.example.shop.domain.product.event.StockChangedEvent;
+import com.example.shop.domain.product.repository.ProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 상품 조회 캐시 (Caffeine W-TinyLFU, 최대 건수 + TTL).
+ * 엔티티가 아닌 ProductDto.Response 스냅샷을 보관하며, 상품 수정/삭제 및 재고 변경 커밋 직후 해당 키를 무효화한다.
+ * 주문/재고 판단은 이 캐시를 사용하지 않는다 (StockService의 조건부 UPDATE가 기준).
+ */
+@Component
+public class ProductCache {
+
+    private final ProductRepository productRepository;
+    private final Cache<Long, ProductDto.Response> cache;
+
+    /** 무효화 세대: 조회 도중 무효화가 일어나면 조회 결과를 캐시에 남기지 않는다 */
+    private final AtomicLong generation = new AtomicLong();
+
+    public ProductCache(ProductRepository productRepository,
+                        @Value("${shop.product.cache.max-size:1000}") long maxSize,
+                        @Value("${shop.product.cache.ttl:PT10M}") Duration ttl) {
+        this.productRepository = productRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    public ProductDto.Response get(Long id) {
+        ProductDto.Response cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = generation.get();
+        ProductDto.Response loaded = productRepository.findById(id)
+                .map(ProductDto.Response::from)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다."));
+        putIfUnchanged(stamp, Map.of(id, loaded));
+        return loaded;
+    }
+
+    /** 요청한 ID 순서대로 반환 (없는 상품은 제외), 캐시에 없는 것만 한 번의 IN 조회로 읽는다 */
+    public List<ProductDto.Response> getAll(Collection<Long> ids) {
+        Map<Long, ProductDto.Response> found = new HashMap<>(cache.getAllPresent(ids));
+        List<Long> missing = ids.stream().filter(id -> !found.containsKey(id)).distinct().toList();
+        if (!missing.isEmpty()) {
+            long stamp = generation.get();
+            Map<Long, ProductDto.Response> loaded = new HashMap<>();
+            productRepository.findAllById(missing).forEach(p -> loaded.put(p.getId(), ProductDto.Response.from(p)));
+            putIfUnchanged(stamp, loaded);
+            found.putAll(loaded);
+        }
+        return ids.stream().map(found::get).filter(Objects::nonNull).toList();
+    }
+
+    public void evict(Long id) {
+        generation.incrementAndGet();
+        cache.invalidate(id);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        evict(event.getProduct().getId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        generation.incrementAndGet();
+        cache.invalidateAll();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onStockChanged(StockChangedEvent event) {
+        evict(event.getProductId());
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    /** 넣은 뒤 세대를 다시 확인: 그 사이 무효화가 있었다면 조회 시점이 커밋 이전일 수 있으므로 되돌린다 */
+    private void putIfUnchanged(long stamp, Map<Long, ProductDto.Response> values) {
+        cache.putAll(values);
+        if (generation.get() != stamp) {
+            cache.invalidateAll(values.keySet());
+        }
+    }
+}
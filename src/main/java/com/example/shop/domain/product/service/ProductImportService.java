@@ -0,0 +1,451 @@
+package com.example.shop.domain.product.service;
+
+import com.example.shop.config.sql.SqlScope;
+import com.example.shop.domain.product.dto.ProductDto;
+import com.example.shop.domain.product.entity.Product;
+import com.example.shop.domain.product.event.ProductsImportedEvent;
+import com.example.shop.domain.product.repository.ProductRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 일괄 등록 (공급사 카탈로그 CSV/JSON).
+ * 업로드 스트림을 한 행씩 읽어 ProductDto.CreateRequest와 같은 규칙으로 검증하고, chunk-size 행마다 별도 트랜잭션에서
+ * 상품 코드(sku)로 기존 상품을 한 번에 조회해 수정하거나 새로 등록한다 (INSERT/UPDATE는 batch-size 단위 JDBC 배치).
+ * 상품별 ProductChangedEvent 대신 끝에서 ProductsImportedEvent를 한 번 발행해 검색 인덱스와 캐시를 다시 구성한다.
+ * 트랜잭션은 청크마다 직접 열므로 클래스 단위 @Transactional을 두지 않는다.
+ */
+@Slf4j
+@Service
+public class ProductImportService {
+
+    private static final long PROGRESS_LOG_INTERVAL_NANOS = TimeUnit.SECONDS.toNanos(5);
+
+    /** CSV 헤더는 소문자로 바꾸고 '_'를 뺀 이름으로 찾는다 (stock_quantity, stockQuantity 모두 허용) */
+    private static final List<String> REQUIRED_CSV_COLUMNS = List.of("name", "price", "stockquantity");
+
+    /** 요청 본문으로 받는 형식 (application/json과 함께) */
+    public static final String TEXT_CSV_VALUE = "text/csv";
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType(TEXT_CSV_VALUE);
+    private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType(APPLICATION_NDJSON_VALUE);
+
+    private final ProductRepository productRepository;
+    private final EntityManager entityManager;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int chunkSize;
+    private final int batchSize;
+    private final int maxErrors;
+    private final DataSize maxSize;
+
+    public ProductImportService(ProductRepository productRepository,
+                                EntityManager entityManager,
+                                Validator validator,
+                                ObjectMapper objectMapper,
+                                ApplicationEventPublisher eventPublisher,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${shop.product.import.chunk-size:500}") int chunkSize,
+                                @Value("${shop.product.import.batch-size:50}") int batchSize,
+                                @Value("${shop.product.import.max-errors:100}") int maxErrors,
+                                @Value("${shop.product.import.max-size:200MB}") DataSize maxSize) {
+        this.productRepository = productRepository;
+        this.entityManager = entityManager;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+        this.maxSize = maxSize;
+    }
+
+    public enum Format {
+        /** 헤더 1행 + 상품 1행씩, 행 번호는 헤더를 1행으로 센 번호 */
+        CSV,
+        /** 객체 배열 또는 한 줄에 객체 하나(NDJSON), 행 번호는 몇 번째 객체인지 */
+        JSON;
+
+        /** 업로드 파일 확장자로 판단 */
+        public static Format of(String filename) {
+            String name = filename != null ? filename.toLowerCase(Locale.ROOT) : "";
+            if (name.endsWith(".csv")) {
+                return CSV;
+            }
+            if (name.endsWith(".json") || name.endsWith(".ndjson") || name.endsWith(".jsonl")) {
+                return JSON;
+            }
+            throw new IllegalArgumentException("지원하지 않는 파일 형식입니다 (csv, json, ndjson).");
+        }
+
+        /** 요청 본문의 Content-Type으로 판단 */
+        public static Format of(MediaType contentType) {
+            if (contentType.isCompatibleWith(TEXT_CSV)) {
+                return CSV;
+            }
+            if (contentType.isCompatibleWith(MediaType.APPLICATION_JSON) || contentType.isCompatibleWith(APPLICATION_NDJSON)) {
+                return JSON;
+            }
+            throw new IllegalArgumentException("지원하지 않는 파일 형식입니다 (text/csv, application/json, application/x-ndjson).");
+        }
+    }
+
+    /**
+     * 요청 본문을 그대로 읽는 일괄 등록: multipart 임시 파일과 전역 업로드 한도를 거치지 않으므로
+     * 크기는 shop.product.import.max-size로 따로 제한한다 (Content-Length가 없으면 읽으면서 센다).
+     */
+    public ProductDto.ImportResult importBody(InputStream body, long contentLength, Format format) {
+        if (contentLength > maxSize.toBytes()) {
+            throw new IllegalArgumentException(tooLarge());
+        }
+        return importProducts(new SizeLimitedInputStream(body, maxSize.toBytes(), tooLarge()), format);
+    }
+
+    private String tooLarge() {
+        return "파일이 최대 크기(" + maxSize.toMegabytes() + "MB)를 넘습니다.";
+    }
+
+    /**
+     * 파일 구조 오류(헤더 누락, 깨진 JSON 등)와 읽기 실패(크기 초과, 업로드 중단)는 읽은 행이 없으면 예외,
+     * 있으면 그 행까지만 반영하고 오류로 남긴다.
+     */
+    public ProductDto.ImportResult importProducts(InputStream in, Format format) {
+        Job job = new Job();
+        // 청크마다 같은 조회/INSERT가 반복되는 것이 정상이므로 요청 범위의 N+1 감지와 분리해 문 수만 따로 센다
+        try (SqlScope sql = SqlScope.open("상품 일괄 등록", Integer.MAX_VALUE)) {
+            Consumer<Row> sink = row -> accept(job, row);
+            try {
+                if (format == Format.CSV) {
+                    readCsv(in, sink);
+                } else {
+                    readJson(in, sink);
+                }
+            } catch (IllegalArgumentException | JsonProcessingException e) {
+                if (job.rows == 0) {
+                    throw new IllegalArgumentException(message(e), e);
+                }
+                job.error(String.format("%d행 이후: 파일을 더 읽을 수 없습니다 (%s)", job.lastRow, message(e)));
+            } catch (IOException e) {
+                // 크기 한도 초과, 업로드 중단, 소켓 오류: 앞 청크는 이미 커밋됐으므로 예외 대신 부분 결과로 끝내고
+                // 끝까지 읽은 행(대기 중인 청크)은 반영한 뒤 아래에서 인덱스/캐시 갱신 이벤트를 발행한다
+                if (job.rows == 0) {
+                    throw new IllegalArgumentException(message(e), e);
+                }
+                log.warn("상품 일괄 등록 중 읽기 실패: {}행 이후", job.lastRow, e);
+                job.error(String.format("%d행 이후: 파일을 끝까지 읽지 못했습니다 (%s)", job.lastRow, message(e)));
+            }
+            flush(job);
+            job.statements = sql.getStatementCount();
+        }
+
+        long elapsedNanos = Math.max(System.nanoTime() - job.started, 1);
+        log.info("상품 일괄 등록 완료: {}행 (등록 {}, 수정 {}, 실패 {}), {}ms ({}행/초), SQL {}개",
+                job.rows, job.inserted, job.updated, job.failed, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+                job.rows * TimeUnit.SECONDS.toNanos(1) / elapsedNanos, job.statements);
+
+        if (job.inserted + job.updated > 0) {
+            long refreshStarted = System.nanoTime();
+            try {
+                eventPublisher.publishEvent(new ProductsImportedEvent(job.inserted, job.updated));
+                log.info("상품 일괄 등록 후 검색 인덱스/캐시 갱신: {}ms",
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - refreshStarted));
+            } catch (RuntimeException e) {
+                // 반영은 이미 커밋됨: 갱신 실패만 알리고 결과는 그대로 돌려준다 (캐시는 TTL, 인덱스는 재시작 시 다시 구성)
+                log.error("상품 일괄 등록 후 검색 인덱스/캐시 갱신 실패", e);
+                job.error("검색 인덱스/캐시 갱신 실패: " + message(e));
+            }
+        }
+        return new ProductDto.ImportResult(job.rows, job.inserted, job.updated, job.failed,
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), job.errors);
+    }
+
+    private void accept(Job job, Row row) {
+        job.rows++;
+        job.lastRow = row.number();
+        if (row.error() != null) {
+            job.failed++;
+            job.error(row.number() + "행: " + row.error());
+        } else {
+            Set<ConstraintViolation<ProductDto.CreateRequest>> violations = validator.validate(row.request());
+            if (violations.isEmpty()) {
+                job.chunk.add(row);
+                if (job.chunk.size() >= chunkSize) {
+                    flush(job);
+                }
+            } else {
+                job.failed++;
+                job.error(row.number() + "행: " + violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+            }
+        }
+
+        long now = System.nanoTime();
+        if (now - job.lastLog >= PROGRESS_LOG_INTERVAL_NANOS) {
+            job.lastLog = now;
+            log.info("상품 일괄 등록 진행: {}행 (등록 {}, 수정 {}, 실패 {}), {}행/초", job.rows, job.inserted, job.updated,
+                    job.failed, job.rows * TimeUnit.SECONDS.toNanos(1) / Math.max(now - job.started, 1));
+        }
+    }
+
+    /** 청크 하나를 한 트랜잭션으로 반영: 실패하면 청크 전체를 실패로 기록하고 다음 청크를 계속한다 */
+    private void flush(Job job) {
+        List<Row> chunk = job.chunk;
+        if (chunk.isEmpty()) {
+            return;
+        }
+        try {
+            int[] counts = transactionTemplate.execute(status -> write(chunk));
+            job.inserted += counts[0];
+            job.updated += counts[1];
+        } catch (RuntimeException e) {
+            long first = chunk.get(0).number();
+            long last = chunk.get(chunk.size() - 1).number();
+            log.warn("상품 일괄 등록 청크 실패: {}~{}행", first, last, e);
+            job.failed += chunk.size();
+            job.error(String.format("%d~%d행: 저장 실패 (%s)", first, last, message(e)));
+        }
+        chunk.clear();
+    }
+
+    /** [등록 수, 수정 수]: 청크의 상품 코드를 IN 한 번으로 조회하고 나머지는 새로 등록 (활성 여부는 기존 값 유지) */
+    private int[] write(List<Row> chunk) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+        Set<String> skus = chunk.stream()
+                .map(row -> row.request().getSku())
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<String, Product> existing = new HashMap<>();
+        if (!skus.isEmpty()) {
+            productRepository.findBySkuIn(skus).forEach(p -> existing.put(p.getSku(), p));
+        }
+
+        int inserted = 0;
+        int updated = 0;
+        for (Row row : chunk) {
+            ProductDto.CreateRequest request = row.request();
+            Product product = request.getSku() != null ? existing.get(request.getSku()) : null;
+            if (product == null) {
+                product = productRepository.save(Product.builder()
+                        .sku(request.getSku())
+                        .name(request.getName())
+                        .description(request.getDescription())
+                        .price(request.getPrice())
+                        .stockQuantity(request.getStockQuantity())
+                        .category(request.getCategory())
+                        .imageUrl(request.getImageUrl())
+                        .isActive(true)
+                        .build());
+                if (product.getSku() != null) {
+                    existing.put(product.getSku(), product);
+                }
+                inserted++;
+            } else {
+                // 값이 같으면 dirty checking으로 UPDATE가 생략된다
+                product.setName(request.getName());
+                product.setDescription(request.getDescription());
+                product.setPrice(request.getPrice());
+                product.setStockQuantity(request.getStockQuantity());
+                product.setCategory(request.getCategory());
+                product.setImageUrl(request.getImageUrl());
+                updated++;
+            }
+        }
+        return new int[]{inserted, updated};
+    }
+
+    private void readCsv(InputStream in, Consumer<Row> sink) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<String> header = csv.next();
+        if (header == null) {
+            throw new IllegalArgumentException("빈 파일입니다.");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            columns.putIfAbsent(header.get(i).trim().replace("_", "").toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = REQUIRED_CSV_COLUMNS.stream().filter(c -> !columns.containsKey(c)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV 헤더에 필수 컬럼이 없습니다: " + String.join(", ", missing));
+        }
+
+        long number = 1;
+        List<String> record;
+        while ((record = csv.next()) != null) {
+            number++;
+            sink.accept(csvRow(number, record, columns));
+        }
+    }
+
+    private static Row csvRow(long number, List<String> record, Map<String, Integer> columns) {
+        try {
+            return new Row(number, ProductDto.CreateRequest.builder()
+                    .sku(text(record, columns, "sku"))
+                    .name(text(record, columns, "name"))
+                    .description(text(record, columns, "description"))
+                    .price(integer(record, columns, "price"))
+                    .stockQuantity(integer(record, columns, "stockquantity"))
+                    .category(text(record, columns, "category"))
+                    .imageUrl(text(record, columns, "imageurl"))
+                    .build(), null);
+        } catch (IllegalArgumentException e) {
+            return new Row(number, null, e.getMessage());
+        }
+    }
+
+    private static String text(List<String> record, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static Integer integer(List<String> record, Map<String, Integer> columns, String column) {
+        String value = text(record, columns, column);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(column + " 값이 정수가 아닙니다: " + value);
+        }
+    }
+
+    /** 최상위 배열이든 줄 단위 객체든 객체 하나씩만 트리로 읽는다 (변환 실패는 해당 행만 오류) */
+    private void readJson(InputStream in, Consumer<Row> sink) throws IOException {
+        try (MappingIterator<JsonNode> nodes = objectMapper.readerFor(JsonNode.class).readValues(in)) {
+            long number = 0;
+            while (nodes.hasNextValue()) {
+                JsonNode node = nodes.nextValue();
+                number++;
+                sink.accept(jsonRow(number, node));
+            }
+        }
+    }
+
+    private Row jsonRow(long number, JsonNode node) {
+        try {
+            ProductDto.CreateRequest request = objectMapper.treeToValue(node, ProductDto.CreateRequest.class);
+            if (request.getSku() != null && request.getSku().isBlank()) {
+                request.setSku(null);
+            }
+            return new Row(number, request, null);
+        } catch (JsonProcessingException e) {
+            String path = e instanceof JsonMappingException mapping
+                    ? mapping.getPath().stream()
+                        .map(JsonMappingException.Reference::getFieldName)
+                        .filter(Objects::nonNull)
+                        .collect(Collectors.joining("."))
+                    : "";
+            return new Row(number, null, (path.isEmpty() ? "" : path + " ") + "값 형식이 올바르지 않습니다");
+        }
+    }
+
+    private static String message(Exception e) {
+        if (e instanceof JsonProcessingException json) {
+            return json.getOriginalMessage();
+        }
+        Throwable cause = NestedExceptionUtils.getMostSpecificCause(e);
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+
+    /** 파일 한 행: 변환에 실패하면 request 대신 error */
+    private record Row(long number, ProductDto.CreateRequest request, String error) {
+    }
+
+    private class Job {
+        private final long started = System.nanoTime();
+        private final List<Row> chunk = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+        private long lastLog = started;
+        private long lastRow;
+        private long rows;
+        private long inserted;
+        private long updated;
+        private long failed;
+        private int statements;
+
+        /** 오류는 max-errors개까지만 보관하고 이후는 건수만 센다 */
+        private void error(String message) {
+            if (errors.size() < maxErrors) {
+                errors.add(message);
+            } else if (errors.size() == maxErrors) {
+                errors.add("이후 오류는 생략합니다.");
+            }
+        }
+    }
+
+    /** 한도를 넘겨 읽으면 IOException: importProducts가 그때까지 읽은 행만 반영한 부분 결과로 끝낸다 */
+    private static final class SizeLimitedInputStream extends FilterInputStream {
+
+        private final long limit;
+        private final String message;
+        private long read;
+
+        SizeLimitedInputStream(InputStream in, long limit, String message) {
+            super(in);
+            this.limit = limit;
+            this.message = message;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) throws IOException {
+            read += n;
+            if (read > limit) {
+                throw new IOException(message);
+            }
+        }
+    }
+}
@@ -0,0 +1,587 @@
+package com.example.shop.domain.product.service;
+
+import com.example.shop.domain.product.dto.ProductDto;
+import com.example.shop.domain.product.entity.Product;
+import com.example.shop.domain.product.event.ProductChangedEvent;
+import com.example.shop.domain.product.event.ProductsImportedEvent;
+import com.example.shop.domain.product.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 활성 상품의 상품명과 설명 앞부분(shop.product.search-index.description-length자)에 대한 메모리 역색인.
+ * 한글은 음절 단위이므로 공백을 제외한 문자 2-gram만 토큰으로 쓰고, 포스팅은 오름차순 상품 ID의 차이를 가변 길이로 담은 byte[]로 보관한다.
+ * 문서에는 상품명만 두고 설명은 포스팅에만 넣는다 (설명 원문을 힙에 올리지 않는다): 후보 중 상품명에 키워드가 없는 상품은
+ * 설명을 DB에서 한 번에 확인하므로, 결과는 DB 대체 조회(ProductRepository.searchProducts)와 같다.
+ * 공백을 뺀 2-gram이 없는 키워드(한 글자 등)는 색인으로 좁힐 수 없으므로 DB 조회로 처리한다.
+ * 전체 재구성은 전용 스레드에서 기존 색인을 먼저 버리고 상품을 ID 순 페이지로 읽어 만들며, 그동안 검색은 DB 조회로 처리한다.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    /** 설명 후보가 이보다 많으면 ID 목록 대신 ID 범위로 확인한다 */
+    private static final int VERIFY_BY_IDS_LIMIT = 1000;
+
+    private final ProductRepository productRepository;
+    private final int pageSize;
+    private final int descriptionLength;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ExecutorService builder;
+    private final AtomicBoolean rebuildRequested = new AtomicBoolean();
+
+    /** 재구성 중이거나 구성에 실패했으면 null */
+    private volatile Index index;
+    private boolean building;
+    /** 재구성 중 커밋된 변경 (상품 ID → 새 문서, 비활성/삭제면 null): 완료 시 새 색인에 반영 */
+    private final Map<Long, Change> pendingChanges = new HashMap<>();
+
+    public ProductSearchIndex(ProductRepository productRepository,
+                              @Value("${shop.product.search-index.page-size:1000}") int pageSize,
+                              @Value("${shop.product.search-index.description-length:100}") int descriptionLength) {
+        this.productRepository = productRepository;
+        this.pageSize = pageSize;
+        this.descriptionLength = descriptionLength;
+        this.builder = Executors.newSingleThreadExecutor(Thread.ofPlatform().name("product-search-index").factory());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        requestRebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        requestRebuild();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        Product product = event.getProduct();
+        if (event.getType() == ProductChangedEvent.Type.DELETED || !Boolean.TRUE.equals(product.getIsActive())) {
+            remove(product.getId());
+        } else {
+            index(product);
+        }
+    }
+
+    /** 재구성을 전용 스레드에 예약한다 (이미 예약되어 있으면 합친다) */
+    public void requestRebuild() {
+        if (rebuildRequested.compareAndSet(false, true)) {
+            try {
+                builder.execute(this::rebuild);
+            } catch (RejectedExecutionException e) {
+                rebuildRequested.set(false);
+            }
+        }
+    }
+
+    /** 기존 색인을 버리고 활성 상품으로 다시 만든다 (호출 스레드에서 실행) */
+    public void rebuild() {
+        rebuildRequested.set(false);
+        long started = System.nanoTime();
+        writeLock.lock();
+        try {
+            index = null;
+            building = true;
+        } finally {
+            writeLock.unlock();
+        }
+
+        Index built;
+        try {
+            built = load();
+        } catch (RuntimeException e) {
+            writeLock.lock();
+            try {
+                building = false;
+                pendingChanges.clear();
+            } finally {
+                writeLock.unlock();
+            }
+            log.error("상품 검색 인덱스 구성 실패: 키워드 검색은 DB 조회로 처리합니다.", e);
+            return;
+        }
+
+        writeLock.lock();
+        try {
+            pendingChanges.forEach((id, change) -> {
+                built.remove(id);
+                if (change != null) {
+                    built.add(change.doc(), change.descriptionTokens());
+                }
+            });
+            pendingChanges.clear();
+            building = false;
+            index = built;
+        } finally {
+            writeLock.unlock();
+        }
+        log.info("상품 검색 인덱스 구성 완료: {}건, 토큰 {}개, {}ms", built.documents.size(), built.postings.size(),
+                (System.nanoTime() - started) / 1_000_000);
+    }
+
+    public void index(Product product) {
+        update(product.getId(), new Change(IndexedProduct.from(product), descriptionTokens(product)));
+    }
+
+    public void remove(Long productId) {
+        update(productId, null);
+    }
+
+    /** 설명은 앞에서부터 이 길이(문자 수)까지만 검색한다 (DB 대체 조회도 같은 길이) */
+    public int getDescriptionLength() {
+        return descriptionLength;
+    }
+
+    /** 재구성 중이 아니면 색인으로 검색할 수 있다 */
+    public boolean isReady() {
+        return index != null;
+    }
+
+    /** 색인이 준비됐고 키워드에 공백을 뺀 2-gram이 있으면 색인으로 검색한다 */
+    public boolean canSearch(String keyword) {
+        return isReady() && !documentTokens(normalize(keyword)).isEmpty();
+    }
+
+    /** 키워드 + 카테고리/가격 필터를 만족하는 상품 ID를 정렬·페이징하여 반환 (canSearch일 때만) */
+    public Page<Long> search(ProductDto.SearchCondition condition, Pageable pageable) {
+        Index current = index;
+        if (current == null) {
+            throw new IllegalStateException("상품 검색 인덱스를 구성하는 중입니다.");
+        }
+        String keyword = normalize(condition.getKeyword());
+        if (documentTokens(keyword).isEmpty()) {
+            throw new IllegalArgumentException("색인으로 검색할 수 없는 키워드입니다: " + condition.getKeyword());
+        }
+
+        // 키워드가 2-gram 하나면 포스팅에 있는 것만으로 설명에 키워드가 있다 (설명이 바뀐 상품은 예전 토큰이 남아 있어 제외)
+        boolean singleToken = keyword.length() == 2;
+        List<IndexedProduct> matched = new ArrayList<>();
+        Map<Long, IndexedProduct> descriptionCandidates = new HashMap<>();
+        for (IndexedProduct doc : current.candidates(keyword)) {
+            if (!doc.matchesFilters(condition)) {
+                continue;
+            }
+            if (doc.normalizedName().contains(keyword)
+                    || singleToken && !current.changedSinceBuild().contains(doc.id())) {
+                matched.add(doc);
+            } else {
+                descriptionCandidates.put(doc.id(), doc);
+            }
+        }
+        if (!descriptionCandidates.isEmpty()) {
+            for (Long id : matchingDescriptions(condition.getKeyword(), descriptionCandidates.keySet())) {
+                IndexedProduct doc = descriptionCandidates.get(id);
+                if (doc != null) {
+                    matched.add(doc);
+                }
+            }
+        }
+
+        matched.sort(comparator(pageable.getSort()));
+
+        int from = (int) Math.min(pageable.getOffset(), matched.size());
+        int to = Math.min(from + pageable.getPageSize(), matched.size());
+        List<Long> ids = matched.subList(from, to).stream()
+                .map(IndexedProduct::id)
+                .toList();
+        return new PageImpl<>(ids, pageable, matched.size());
+    }
+
+    public int size() {
+        Index current = index;
+        return current != null ? current.documents.size() : 0;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        builder.shutdownNow();
+    }
+
+    /**
+     * 설명 2-gram은 모든 글자 쌍이 있다는 것만 알려 주므로 후보의 설명을 DB에서 확인한다.
+     * 후보가 적으면 ID 목록으로, 많으면 후보 ID 범위를 한 번에 훑는다 (어느 쪽이든 SQL 한 번).
+     */
+    private List<Long> matchingDescriptions(String keyword, Collection<Long> ids) {
+        String escaped = ProductRepository.escapeLike(keyword);
+        if (ids.size() <= VERIFY_BY_IDS_LIMIT) {
+            return productRepository.findIdsByDescriptionLike(ids, escaped, descriptionLength);
+        }
+        LongSummaryStatistics range = ids.stream().mapToLong(Long::longValue).summaryStatistics();
+        return productRepository.findIdsByDescriptionLikeBetween(range.getMin(), range.getMax(), escaped, descriptionLength);
+    }
+
+    private void update(Long productId, Change change) {
+        writeLock.lock();
+        try {
+            Index current = index;
+            if (current == null) {
+                if (building) {
+                    pendingChanges.put(productId, change);
+                }
+                return;
+            }
+            current.remove(productId);
+            if (change != null) {
+                current.add(change.doc(), change.descriptionTokens());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /** 엔티티를 한꺼번에 올리지 않도록 ID 순 페이지로 읽고, 포스팅은 늘려 가며 쓰다가 마지막에 크기를 맞춘다 */
+    private Index load() {
+        Map<Long, IndexedProduct> documents = new ConcurrentHashMap<>();
+        Map<String, PostingBuilder> postings = new HashMap<>();
+        long afterId = 0;
+        while (true) {
+            List<Product> page = productRepository.findActiveAfter(afterId, PageRequest.of(0, pageSize));
+            for (Product product : page) {
+                IndexedProduct doc = IndexedProduct.from(product);
+                documents.put(doc.id(), doc);
+                Set<String> tokens = documentTokens(doc.normalizedName());
+                tokens.addAll(descriptionTokens(product));
+                for (String token : tokens) {
+                    postings.computeIfAbsent(token, k -> new PostingBuilder()).add(doc.id());
+                }
+            }
+            if (page.size() < pageSize) {
+                break;
+            }
+            afterId = page.get(page.size() - 1).getId();
+        }
+
+        Map<String, byte[]> compacted = new ConcurrentHashMap<>(postings.size());
+        for (Iterator<Map.Entry<String, PostingBuilder>> it = postings.entrySet().iterator(); it.hasNext(); ) {
+            Map.Entry<String, PostingBuilder> entry = it.next();
+            compacted.put(entry.getKey(), entry.getValue().encode());
+            it.remove();
+        }
+        return new Index(documents, compacted, ConcurrentHashMap.newKeySet());
+    }
+
+    /** 설명은 앞 descriptionLength자만 색인한다 */
+    private Set<String> descriptionTokens(Product product) {
+        String description = product.getDescription();
+        if (description == null) {
+            return new HashSet<>();
+        }
+        if (description.length() > descriptionLength) {
+            description = description.substring(0, descriptionLength);
+        }
+        return documentTokens(normalize(description));
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /** 토큰: 공백을 포함하지 않는 모든 2-gram */
+    static Set<String> documentTokens(String text) {
+        Set<String> tokens = new HashSet<>();
+        for (int i = 0; i + 1 < text.length(); i++) {
+            if (!Character.isWhitespace(text.charAt(i)) && !Character.isWhitespace(text.charAt(i + 1))) {
+                tokens.add(text.substring(i, i + 2));
+            }
+        }
+        return tokens;
+    }
+
+    private static Comparator<IndexedProduct> comparator(Sort sort) {
+        Comparator<IndexedProduct> result = null;
+        for (Sort.Order order : sort) {
+            Comparator<IndexedProduct> next = switch (order.getProperty()) {
+                case "id" -> Comparator.comparing(IndexedProduct::id);
+                case "name" -> Comparator.comparing(IndexedProduct::name, Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "price" -> Comparator.comparing(IndexedProduct::price, Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "category" -> Comparator.comparing(IndexedProduct::category, Comparator.nullsFirst(Comparator.naturalOrder()));
+                case "createdAt" -> Comparator.comparingLong(IndexedProduct::createdAt);
+                default -> null;
+            };
+            if (next == null) {
+                continue;
+            }
+            if (order.isDescending()) {
+                next = next.reversed();
+            }
+            result = result == null ? next : result.thenComparing(next);
+        }
+        Comparator<IndexedProduct> byIdDesc = Comparator.comparing(IndexedProduct::id).reversed();
+        return result == null ? byIdDesc : result.thenComparing(byIdDesc);
+    }
+
+    /**
+     * 문서와 포스팅 (토큰 → Postings로 인코딩한 오름차순 상품 ID).
+     * 포스팅 배열은 바꾸지 않고 새 배열로 교체하므로 검색은 잠금 없이 읽고, 변경은 writeLock 안에서만 한다.
+     * 설명 원문은 보관하지 않으므로 상품을 지우거나 바꿀 때 예전 설명의 토큰은 포스팅에 남는다:
+     * 문서가 없으면 후보에서 빠지고, 바뀐 상품(changedSinceBuild)은 항상 DB에서 설명을 확인하므로 결과에는 영향이 없고,
+     * 다음 재구성 때 정리된다.
+     */
+    private record Index(Map<Long, IndexedProduct> documents, Map<String, byte[]> postings, Set<Long> changedSinceBuild) {
+
+        void add(IndexedProduct doc, Set<String> descriptionTokens) {
+            documents.put(doc.id(), doc);
+            Set<String> tokens = documentTokens(doc.normalizedName());
+            tokens.addAll(descriptionTokens);
+            for (String token : tokens) {
+                postings.compute(token, (k, ids) -> Postings.insert(ids, doc.id()));
+            }
+        }
+
+        void remove(Long productId) {
+            IndexedProduct doc = documents.remove(productId);
+            if (doc == null) {
+                return;
+            }
+            changedSinceBuild.add(productId);
+            for (String token : documentTokens(doc.normalizedName())) {
+                postings.computeIfPresent(token, (k, ids) -> Postings.delete(ids, productId));
+            }
+        }
+
+        /** 가장 짧은 포스팅만 풀고 나머지는 읽어 가며 교집합을 구해 후보를 좁힌다 (2-gram이 없는 한 글자 키워드는 전체) */
+        Collection<IndexedProduct> candidates(String keyword) {
+            Set<String> tokens = documentTokens(keyword);
+            if (tokens.isEmpty()) {
+                return documents.values();
+            }
+
+            List<byte[]> lists = new ArrayList<>(tokens.size());
+            for (String token : tokens) {
+                byte[] ids = postings.get(token);
+                if (ids == null) {
+                    return List.of();
+                }
+                lists.add(ids);
+            }
+            lists.sort(Comparator.comparingInt(ids -> ids.length));
+
+            long[] result = Postings.decode(lists.get(0));
+            for (int i = 1; i < lists.size() && result.length > 0; i++) {
+                result = Postings.intersect(result, lists.get(i));
+            }
+            List<IndexedProduct> docs = new ArrayList<>(result.length);
+            for (long id : result) {
+                IndexedProduct doc = documents.get(id);
+                if (doc != null) {
+                    docs.add(doc);
+                }
+            }
+            return docs;
+        }
+    }
+
+    /**
+     * 포스팅 인코딩: 오름차순 ID의 앞 ID와의 차이(첫 값은 ID 그대로)를 7비트씩 가변 길이로 이어 붙인다.
+     * 시퀀스로 만든 ID는 차이가 작아 대부분 1~2바이트라 long[]보다 4배 이상 작다 (설명 토큰까지 색인하므로 필요).
+     */
+    private static final class Postings {
+
+        private Postings() {
+        }
+
+        static byte[] encode(long[] ids, int size) {
+            byte[] buffer = new byte[size * 3];
+            int length = 0;
+            long prev = 0;
+            for (int i = 0; i < size; i++) {
+                if (buffer.length - length < 10) {
+                    buffer = Arrays.copyOf(buffer, buffer.length * 2 + 10);
+                }
+                length = write(buffer, length, ids[i] - prev);
+                prev = ids[i];
+            }
+            return Arrays.copyOf(buffer, length);
+        }
+
+        static long[] decode(byte[] posting) {
+            long[] ids = new long[posting.length];
+            int n = 0;
+            Cursor cursor = new Cursor(posting);
+            while (cursor.next()) {
+                ids[n++] = cursor.value;
+            }
+            return Arrays.copyOf(ids, n);
+        }
+
+        /** 정렬된 ids와 인코딩된 posting의 교집합: posting은 풀지 않고 읽어 가며 비교한다 */
+        static long[] intersect(long[] ids, byte[] posting) {
+            long[] result = new long[ids.length];
+            int n = 0;
+            int i = 0;
+            Cursor cursor = new Cursor(posting);
+            while (i < ids.length && cursor.next()) {
+                while (i < ids.length && ids[i] < cursor.value) {
+                    i++;
+                }
+                if (i < ids.length && ids[i] == cursor.value) {
+                    result[n++] = ids[i++];
+                }
+            }
+            return n == result.length ? result : Arrays.copyOf(result, n);
+        }
+
+        /** 들어갈 자리 앞은 그대로 두고 새 ID와 바로 뒤 ID의 차이만 다시 써서 이어 붙인다 */
+        static byte[] insert(byte[] posting, long id) {
+            if (posting == null) {
+                return encode(new long[]{id}, 1);
+            }
+            Cursor cursor = new Cursor(posting);
+            while (cursor.next()) {
+                if (cursor.value == id) {
+                    return posting;
+                }
+                if (cursor.value > id) {
+                    return splice(posting, cursor.start, cursor.end, new long[]{id - cursor.prev, cursor.value - id});
+                }
+            }
+            return splice(posting, posting.length, posting.length, new long[]{id - cursor.value});
+        }
+
+        /** 지울 ID 뒤의 ID는 앞 ID와의 차이로 다시 쓴다 (비면 null을 돌려 포스팅을 지운다) */
+        static byte[] delete(byte[] posting, long id) {
+            Cursor cursor = new Cursor(posting);
+            while (cursor.next()) {
+                if (cursor.value > id) {
+                    return posting;
+                }
+                if (cursor.value == id) {
+                    int start = cursor.start;
+                    long prev = cursor.prev;
+                    if (!cursor.next()) {
+                        return start == 0 ? null : Arrays.copyOf(posting, start);
+                    }
+                    return splice(posting, start, cursor.end, new long[]{cursor.value - prev});
+                }
+            }
+            return posting;
+        }
+
+        /** posting[from, to)를 차이 값들의 인코딩으로 바꾼다 */
+        private static byte[] splice(byte[] posting, int from, int to, long[] deltas) {
+            byte[] middle = new byte[deltas.length * 10];
+            int middleLength = 0;
+            for (long delta : deltas) {
+                middleLength = write(middle, middleLength, delta);
+            }
+            byte[] next = new byte[from + middleLength + posting.length - to];
+            System.arraycopy(posting, 0, next, 0, from);
+            System.arraycopy(middle, 0, next, from, middleLength);
+            System.arraycopy(posting, to, next, from + middleLength, posting.length - to);
+            return next;
+        }
+
+        private static int write(byte[] buffer, int offset, long value) {
+            while ((value & ~0x7FL) != 0) {
+                buffer[offset++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[offset++] = (byte) value;
+            return offset;
+        }
+
+        /** 인코딩된 포스팅을 앞에서부터 읽는다: value는 현재 ID, prev는 바로 앞 ID, [start, end)는 현재 값의 바이트 범위 */
+        private static final class Cursor {
+            private final byte[] posting;
+            private int start;
+            private int end;
+            private long prev;
+            private long value;
+
+            Cursor(byte[] posting) {
+                this.posting = posting;
+            }
+
+            boolean next() {
+                if (end >= posting.length) {
+                    return false;
+                }
+                start = end;
+                long delta = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = posting[end++];
+                    delta |= (long) (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                prev = value;
+                value += delta;
+                return true;
+            }
+        }
+    }
+
+    /** 재구성용 포스팅: ID 순으로 읽으므로 인코딩한 차이를 뒤에 붙이기만 한다 (재구성 중에도 long[]로 풀어 두지 않는다) */
+    private static class PostingBuilder {
+        private byte[] bytes = new byte[16];
+        private int length;
+        private long last;
+
+        void add(long id) {
+            if (bytes.length - length < 10) {
+                bytes = Arrays.copyOf(bytes, bytes.length + (bytes.length >> 1) + 10);
+            }
+            length = Postings.write(bytes, length, id - last);
+            last = id;
+        }
+
+        byte[] encode() {
+            return Arrays.copyOf(bytes, length);
+        }
+    }
+
+    /** 재구성 중 커밋된 변경: 새 문서와 (문서에 보관하지 않는) 설명 토큰 */
+    private record Change(IndexedProduct doc, Set<String> descriptionTokens) {
+    }
+
+    /** 등록일시는 정렬에만 쓰므로 LocalDateTime 대신 epoch 마이크로초로 보관 (없으면 가장 앞) */
+    private record IndexedProduct(Long id, String name, String category, Integer price, long createdAt,
+                                  String normalizedName) {
+
+        static IndexedProduct from(Product product) {
+            LocalDateTime createdAt = product.getCreatedAt();
+            long micros = createdAt == null ? Long.MIN_VALUE
+                    : createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + createdAt.getNano() / 1_000;
+            return new IndexedProduct(product.getId(), product.getName(), product.getCategory(), product.getPrice(),
+                    micros, normalize(product.getName()));
+        }
+
+        boolean matchesFilters(ProductDto.SearchCondition condition) {
+            if (condition.getCategory() != null && !condition.getCategory().equals(category)) {
+                return false;
+            }
+            if (condition.getMinPrice() != null && (price == null || price < condition.getMinPrice())) {
+                return false;
+            }
+            if (condition.getMaxPrice() != null && (price == null || price > condition.getMaxPrice())) {
+                return false;
+            }
+            return true;
+        }
+    }
+}
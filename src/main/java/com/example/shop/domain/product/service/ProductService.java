@@ -2,14 +2,21 @@ package com.example.shop.domain.product.service;
 
 import com.example.shop.domain.product.dto.ProductDto;
 import com.example.shop.domain.product.entity.Product;
+import com.example.shop.domain.product.event.ProductChangedEvent;
 import com.example.shop.domain.product.repository.ProductRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -17,10 +24,15 @@ import java.util.List;
 public class ProductService {
 
     private final ProductRepository productRepository;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductCache productCache;
+    private final CategoryFacetService categoryFacetService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Transactional
     public Product create(ProductDto.CreateRequest request) {
         Product product = Product.builder()
+                .sku(request.getSku())
                 .name(request.getName())
                 .description(request.getDescription())
                 .price(request.getPrice())
@@ -30,7 +42,9 @@ public class ProductService {
                 .isActive(true)
                 .build();
 
-        return productRepository.save(product);
+        Product saved = productRepository.save(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(saved, ProductChangedEvent.Type.CREATED));
+        return saved;
     }
 
     public Product findById(Long id) {
@@ -38,6 +52,21 @@ public class ProductService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다."));
     }
 
+    /** 화면 조회용: 상품 캐시를 통해 조회 (주문/재고 판단에는 사용하지 않는다) */
+    public ProductDto.Response findResponseById(Long id) {
+        return productCache.get(id);
+    }
+
+    /** 화면 조회용 일괄 조회: 캐시에 없는 상품만 DB에서 읽고 요청한 ID 순서를 유지 */
+    public List<ProductDto.Response> findAllResponsesById(List<Long> ids) {
+        return productCache.getAll(ids);
+    }
+
+    /** 메인 화면용 활성 상품: ID만 조회하고 상품 정보는 캐시에서 */
+    public List<ProductDto.Response> findActiveProductResponses(Pageable pageable) {
+        return productCache.getAll(productRepository.findActiveIds(pageable));
+    }
+
     public Page<Product> findAll(Pageable pageable) {
         return productRepository.findAllByOrderByCreatedAtDesc(pageable);
     }
@@ -46,9 +75,25 @@ public class ProductService {
         return productRepository.findByIsActiveTrue(pageable);
     }
 
+    /**
+     * 키워드 검색은 메모리 역색인으로 ID를 구하고 해당 페이지의 상품만 조회 (LIKE 전체 스캔 방지).
+     * 인덱스를 다시 구성하는 동안과 색인으로 좁힐 수 없는 키워드(한 글자 등)는 DB 조회로 처리한다.
+     */
     public Page<Product> search(ProductDto.SearchCondition condition, Pageable pageable) {
+        if (condition.getKeyword() != null && productSearchIndex.canSearch(condition.getKeyword())) {
+            Page<Long> ids = productSearchIndex.search(condition, pageable);
+            Map<Long, Product> products = productRepository.findAllById(ids.getContent()).stream()
+                    .collect(Collectors.toMap(Product::getId, Function.identity()));
+            List<Product> content = ids.getContent().stream()
+                    .map(products::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+            return new PageImpl<>(content, pageable, ids.getTotalElements());
+        }
+
         return productRepository.searchProducts(
-                condition.getKeyword(),
+                ProductRepository.escapeLike(condition.getKeyword()),
+                productSearchIndex.getDescriptionLength(),
                 condition.getCategory(),
                 condition.getMinPrice(),
                 condition.getMaxPrice(),
@@ -56,8 +101,13 @@ public class ProductService {
         );
     }
 
+    /** 메모리 facet에서 조회 (DISTINCT 쿼리 미사용) */
     public List<String> getAllCategories() {
-        return productRepository.findAllCategories();
+        return categoryFacetService.getCategories();
+    }
+
+    public List<ProductDto.CategoryFacet> getCategoryFacets() {
+        return categoryFacetService.getActiveFacets();
     }
 
     @Transactional
@@ -74,6 +124,7 @@ public class ProductService {
             product.setIsActive(request.getIsActive());
         }
 
+        eventPublisher.publishEvent(new ProductChangedEvent(product, ProductChangedEvent.Type.UPDATED));
         return product;
     }
 
@@ -81,6 +132,7 @@ public class ProductService {
     public void delete(Long id) {
         Product product = findById(id);
         product.setIsActive(false);
+        eventPublisher.publishEvent(new ProductChangedEvent(product, ProductChangedEvent.Type.DELETED));
     }
 
     public long count() {
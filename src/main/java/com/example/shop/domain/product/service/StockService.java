@@ -0,0 +1,174 @@
+package com.example.shop.domain.product.service;
+
+import com.example.shop.domain.product.event.ProductChangedEvent;
+import com.example.shop.domain.product.event.ProductsImportedEvent;
+import com.example.shop.domain.product.event.StockChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 재고 차감/복원.
+ * 엔티티 read-modify-write 대신 조건부 UPDATE로 원자적으로 처리하여 동시 주문 시 초과 판매를 막는다.
+ * 잠금 대기 시간 초과 등 일시적 오류는 여기서 재시도하지 않는다: 예외로 주문 트랜잭션을 롤백하고
+ * 호출 측(OrderTransactionRetry)이 트랜잭션 전체를 다시 실행한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StockService {
+
+    private static final String DECREASE_SQL =
+            "UPDATE product SET stock_quantity = stock_quantity - ? WHERE id = ? AND stock_quantity >= ?";
+    private static final String INCREASE_SQL =
+            "UPDATE product SET stock_quantity = stock_quantity + ? WHERE id = ?";
+    private static final String STOCK_SQL =
+            "SELECT stock_quantity FROM product WHERE id = ?";
+
+    private static final long SOLD_OUT_TTL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /** 품절 확인 시각: 짧은 시간 동안 DB 조회 없이 즉시 실패 (재고 복원/상품 수정 시 해제) */
+    private final Map<Long, Long> soldOutAt = new ConcurrentHashMap<>();
+
+    /** 주문 트랜잭션 안에서 호출: 재고가 부족하면 예외 → 주문 전체 롤백 */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void decrease(Long productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("주문 수량은 1개 이상이어야 합니다.");
+        }
+        if (isSoldOut(productId)) {
+            throw new IllegalStateException("재고가 부족합니다.");
+        }
+
+        int updated = jdbcTemplate.update(DECREASE_SQL, quantity, productId, quantity);
+        if (updated != 1) {
+            throw decreaseFailed(productId, updated);
+        }
+        eventPublisher.publishEvent(new StockChangedEvent(productId));
+    }
+
+    /**
+     * 여러 상품 일괄 차감: 상품 ID 오름차순으로 조건부 UPDATE를 하나의 JDBC 배치로 실행한다.
+     * 모든 주문이 같은 순서로 행 잠금을 잡으므로 겹치는 장바구니끼리 교착 상태가 생기지 않는다.
+     * 갱신 건수가 1이 아닌 행(0, 드라이버가 돌려주는 SUCCESS_NO_INFO 등)은 차감 여부를 알 수 없으므로 실패로 본다.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void decreaseAll(Map<Long, Integer> quantities) {
+        SortedMap<Long, Integer> ordered = new TreeMap<>(quantities);
+        for (Map.Entry<Long, Integer> e : ordered.entrySet()) {
+            if (e.getValue() <= 0) {
+                throw new IllegalArgumentException("주문 수량은 1개 이상이어야 합니다.");
+            }
+            if (isSoldOut(e.getKey())) {
+                throw new IllegalStateException("재고가 부족합니다.");
+            }
+        }
+
+        List<Object[]> args = ordered.entrySet().stream()
+                .map(e -> new Object[]{e.getValue(), e.getKey(), e.getValue()})
+                .toList();
+        int[] updated = jdbcTemplate.batchUpdate(DECREASE_SQL, args);
+
+        int i = 0;
+        for (Long productId : ordered.keySet()) {
+            if (updated[i++] != 1) {
+                // 이 배치에서 차감된 행은 (차감 여부를 모르는 행 포함) 주문 트랜잭션 롤백으로 함께 되돌아간다
+                throw decreaseFailed(productId, updated[i - 1]);
+            }
+        }
+        ordered.keySet().forEach(productId -> eventPublisher.publishEvent(new StockChangedEvent(productId)));
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void increase(Long productId, int quantity) {
+        int updated = jdbcTemplate.update(INCREASE_SQL, quantity, productId);
+        if (updated != 1) {
+            checkIncreased(productId, updated);
+        }
+        soldOutAt.remove(productId);
+        eventPublisher.publishEvent(new StockChangedEvent(productId));
+    }
+
+    /** 주문 취소 등 여러 상품 일괄 복원 (차감과 같은 ID 오름차순) */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void increaseAll(Map<Long, Integer> quantities) {
+        SortedMap<Long, Integer> ordered = new TreeMap<>(quantities);
+        List<Object[]> args = ordered.entrySet().stream()
+                .map(e -> new Object[]{e.getValue(), e.getKey()})
+                .toList();
+        int[] updated = jdbcTemplate.batchUpdate(INCREASE_SQL, args);
+        int i = 0;
+        for (Long productId : ordered.keySet()) {
+            if (updated[i++] != 1) {
+                checkIncreased(productId, updated[i - 1]);
+            }
+            soldOutAt.remove(productId);
+            eventPublisher.publishEvent(new StockChangedEvent(productId));
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductChanged(ProductChangedEvent event) {
+        soldOutAt.remove(event.getProduct().getId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onProductsImported(ProductsImportedEvent event) {
+        soldOutAt.clear();
+    }
+
+    private boolean isSoldOut(Long productId) {
+        Long markedAt = soldOutAt.get(productId);
+        if (markedAt == null) {
+            return false;
+        }
+        if (System.nanoTime() - markedAt > SOLD_OUT_TTL_NANOS) {
+            soldOutAt.remove(productId, markedAt);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 차감되지 않았거나 결과를 알 수 없는 행: 현재 재고를 다시 읽어 실패 사유를 정한다.
+     * 어느 쪽이든 예외로 주문 트랜잭션이 롤백되므로 차감 여부가 확정되지 않은 채 커밋되는 일은 없다.
+     */
+    private RuntimeException decreaseFailed(Long productId, int updated) {
+        List<Integer> remaining = jdbcTemplate.queryForList(STOCK_SQL, Integer.class, productId);
+        if (remaining.isEmpty()) {
+            return new IllegalArgumentException("존재하지 않는 상품입니다.");
+        }
+        if (updated == 0) {
+            if (remaining.get(0) == 0) {
+                soldOutAt.put(productId, System.nanoTime());
+            }
+            return new IllegalStateException("재고가 부족합니다.");
+        }
+        log.warn("재고 차감 결과 확인 불가: productId={}, updated={}, stock={}", productId, updated, remaining.get(0));
+        return new IllegalStateException("재고 차감 결과를 확인할 수 없습니다. 다시 시도해 주세요.");
+    }
+
+    /** 복원은 조건 없는 UPDATE: 결과를 알 수 없는 행은 상품이 남아 있는지만 다시 확인한다 */
+    private void checkIncreased(Long productId, int updated) {
+        if (updated != 0 && !jdbcTemplate.queryForList(STOCK_SQL, Integer.class, productId).isEmpty()) {
+            return;
+        }
+        log.warn("재고 복원 대상 상품 없음: productId={}, updated={}", productId, updated);
+    }
+}
@@ -0,0 +1,11 @@
+-- 장바구니 항목 (cart_id, product_id) 유니크 키 추가 마이그레이션
+-- prod(ddl-auto: none) 배포 전에 한 번 실행한다. 기존 중복 행은 수량을 합쳐 가장 작은 ID 행 하나로 정리한다.
+
+UPDATE cart_item ci
+SET quantity = (SELECT SUM(d.quantity) FROM cart_item d WHERE d.cart_id = ci.cart_id AND d.product_id = ci.product_id)
+WHERE ci.id = (SELECT MIN(d.id) FROM cart_item d WHERE d.cart_id = ci.cart_id AND d.product_id = ci.product_id);
+
+DELETE FROM cart_item ci
+WHERE ci.id > (SELECT MIN(d.id) FROM cart_item d WHERE d.cart_id = ci.cart_id AND d.product_id = ci.product_id);
+
+ALTER TABLE cart_item ADD CONSTRAINT uk_cart_item_cart_product UNIQUE (cart_id, product_id);
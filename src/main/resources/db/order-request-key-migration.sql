@@ -0,0 +1,5 @@
+-- 주문 요청 키(멱등성) 컬럼 추가 마이그레이션
+-- prod(ddl-auto: none) 배포 전에 한 번 실행한다. 기존 주문은 NULL로 남으며 유니크 키는 NULL을 중복으로 보지 않는다.
+
+ALTER TABLE orders ADD COLUMN IF NOT EXISTS request_key VARCHAR(64);
+ALTER TABLE orders ADD CONSTRAINT uk_orders_member_request_key UNIQUE (member_id, request_key);
@@ -0,0 +1,19 @@
+-- 트랜잭션 아웃박스 테이블 추가 마이그레이션
+-- prod(ddl-auto: none) 배포 전에 한 번 실행한다. 처리 완료(DONE) 행은 OutboxRetentionJob이 보관 기간 후 삭제한다 (outbox-retention-migration.sql).
+
+CREATE SEQUENCE IF NOT EXISTS outbox_event_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE IF NOT EXISTS outbox_event (
+    id              BIGINT       NOT NULL PRIMARY KEY,
+    event_type      VARCHAR(50)  NOT NULL,
+    aggregate_id    BIGINT       NOT NULL,
+    payload         VARCHAR(4000),
+    status          VARCHAR(20)  NOT NULL,
+    attempts        INTEGER      NOT NULL,
+    next_attempt_at TIMESTAMP    NOT NULL,
+    last_error      VARCHAR(1000),
+    created_at      TIMESTAMP    NOT NULL,
+    processed_at    TIMESTAMP
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_event_status_next_attempt ON outbox_event (status, next_attempt_at);
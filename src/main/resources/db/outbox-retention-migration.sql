@@ -0,0 +1,6 @@
+-- 아웃박스 보관 기간 정리(OutboxRetentionJob) 인덱스 추가 마이그레이션
+-- prod(ddl-auto: none) 배포 전에 한 번 실행한다.
+-- 처리 대상(PENDING) 조회는 기존 idx_outbox_event_status_next_attempt의 status = 'PENDING' 범위만 읽으므로
+-- DONE 행이 쌓여도 느려지지 않고, 정리 작업의 DONE + processed_at 조회는 아래 인덱스를 사용한다.
+
+CREATE INDEX IF NOT EXISTS idx_outbox_event_status_processed ON outbox_event (status, processed_at);
@@ -0,0 +1,5 @@
+-- 상품 코드(sku) 추가: 상품 일괄 등록 시 기존 상품을 찾는 키
+-- prod(ddl-auto: none) 배포 전에 한 번 실행한다. H2(local, dev)는 Hibernate가 스키마를 맞춘다.
+
+ALTER TABLE product ADD COLUMN sku VARCHAR(64);
+ALTER TABLE product ADD CONSTRAINT uk_product_sku UNIQUE (sku);
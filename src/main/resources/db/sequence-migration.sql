@@ -0,0 +1,21 @@
+-- IDENTITY → SEQUENCE(pooled, allocationSize = 50) 전환 마이그레이션
+-- prod(ddl-auto: none) 배포 전에 한 번 실행한다. H2 환경은 SequenceSynchronizer가 시작 시 자동으로 맞춘다.
+-- 각 시퀀스는 해당 테이블의 MAX(id) + 50 이상에서 시작해야 한다. (:max_* 값은 실행 전 조회하여 치환)
+
+CREATE SEQUENCE IF NOT EXISTS member_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS product_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS cart_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS cart_item_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS orders_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS order_item_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS payment_seq START WITH 1 INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS delivery_seq START WITH 1 INCREMENT BY 50;
+
+-- SELECT MAX(id) FROM member;  → ALTER SEQUENCE member_seq RESTART WITH :max_member + 50;
+-- SELECT MAX(id) FROM product; → ALTER SEQUENCE product_seq RESTART WITH :max_product + 50;
+-- SELECT MAX(id) FROM cart;    → ALTER SEQUENCE cart_seq RESTART WITH :max_cart + 50;
+-- SELECT MAX(id) FROM cart_item;  → ALTER SEQUENCE cart_item_seq RESTART WITH :max_cart_item + 50;
+-- SELECT MAX(id) FROM orders;     → ALTER SEQUENCE orders_seq RESTART WITH :max_orders + 50;
+-- SELECT MAX(id) FROM order_item; → ALTER SEQUENCE order_item_seq RESTART WITH :max_order_item + 50;
+-- SELECT MAX(id) FROM payment;    → ALTER SEQUENCE payment_seq RESTART WITH :max_payment + 50;
+-- SELECT MAX(id) FROM delivery;   → ALTER SEQUENCE delivery_seq RESTART WITH :max_delivery + 50;
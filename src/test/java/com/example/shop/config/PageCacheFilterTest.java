@@ -0,0 +1,47 @@
+package com.example.shop.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+/** 캐시 적중 여부는 핸들러 실행 여부로 판단한다 (적중 시 필터가 바로 응답) */
+@SpringBootTest
+@AutoConfigureMockMvc
+class PageCacheFilterTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void 값에_구분자가_들어간_요청은_다른_키() throws Exception {
+        String keyword = UUID.randomUUID().toString();
+
+        assertThat(rendered(get("/products").param("keyword", keyword).param("size", "12"))).isTrue();
+        assertThat(rendered(get("/products").param("keyword", keyword).param("size", "12"))).isFalse();
+        assertThat(rendered(get("/products").param("keyword", keyword + "&size=12"))).isTrue();
+    }
+
+    @Test
+    void 화면이_읽지_않는_파라미터는_키에서_제외() throws Exception {
+        String keyword = UUID.randomUUID().toString();
+
+        assertThat(rendered(get("/products").param("keyword", keyword))).isTrue();
+        assertThat(rendered(get("/products").param("keyword", keyword).param("utm_source", "mail"))).isFalse();
+        assertThat(rendered(get("/products").param("keyword", keyword).param("page", "1"))).isTrue();
+    }
+
+    private boolean rendered(MockHttpServletRequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+        return result.getHandler() != null;
+    }
+}
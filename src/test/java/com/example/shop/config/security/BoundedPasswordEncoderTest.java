@@ -0,0 +1,33 @@
+package com.example.shop.config.security;
+
+import io.micrometer.prometheus.PrometheusConfig;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.NoOpPasswordEncoder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoundedPasswordEncoderTest {
+
+    @Test
+    void 해시_시간과_대기_시간은_히스토그램_버킷으로_내보내고_대시보드도_같은_Timer를_읽는다() {
+        PrometheusMeterRegistry registry = new PrometheusMeterRegistry(PrometheusConfig.DEFAULT);
+        PasswordHashingMetrics metrics = new PasswordHashingMetrics(registry);
+        BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(NoOpPasswordEncoder.getInstance(), metrics,
+                1, 10, Duration.ofSeconds(5));
+        try {
+            encoder.encode("1234");
+            assertThat(encoder.matches("1234", "1234")).isTrue();
+        } finally {
+            encoder.shutdown();
+        }
+
+        assertThat(registry.scrape())
+                .contains("shop_password_hash_seconds_bucket{")
+                .contains("shop_password_hash_queue_seconds_bucket{");
+        assertThat(metrics.getHashTime().getCount()).isEqualTo(2);
+        assertThat(metrics.getQueueWait().getCount()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.shop.config.security;
+
+import com.example.shop.domain.member.entity.Member;
+import com.example.shop.domain.member.event.MemberChangedEvent;
+import com.example.shop.domain.member.repository.MemberRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class CustomUserDetailsServiceTest {
+
+    private static final String EMAIL = "user@example.com";
+
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final CustomUserDetailsService service = new CustomUserDetailsService(memberRepository,
+            mock(ApplicationEventPublisher.class), new PasswordHashingMetrics(new SimpleMeterRegistry()), 100, Duration.ofMinutes(10));
+
+    @Test
+    void 캐시된_계정은_다시_조회하지_않는다() {
+        when(memberRepository.findByEmail(EMAIL)).thenReturn(Optional.of(member("hash-1")));
+
+        service.loadUserByUsername(EMAIL);
+        service.loadUserByUsername(EMAIL);
+
+        verify(memberRepository, times(1)).findByEmail(EMAIL);
+    }
+
+    @Test
+    void 조회_도중_변경이_커밋되면_이전_스냅샷을_캐시하지_않는다() {
+        when(memberRepository.findByEmail(EMAIL))
+                .thenAnswer(invocation -> {
+                    // 이전 값을 읽은 직후 비밀번호 변경이 커밋되어 무효화가 먼저 끝난 경우
+                    service.onMemberChanged(new MemberChangedEvent(EMAIL));
+                    return Optional.of(member("old-hash"));
+                })
+                .thenReturn(Optional.of(member("new-hash")));
+
+        assertThat(service.loadUserByUsername(EMAIL).getPassword()).isEqualTo("old-hash");
+        assertThat(service.loadUserByUsername(EMAIL).getPassword()).isEqualTo("new-hash");
+    }
+
+    private static Member member(String password) {
+        return Member.builder()
+                .id(1L)
+                .email(EMAIL)
+                .password(password)
+                .name("사용자")
+                .role(Member.Role.ROLE_USER)
+                .build();
+    }
+}
@@ -0,0 +1,167 @@
+package com.example.shop.config.sql;
+
+import com.example.shop.config.security.CustomUserDetails;
+import com.example.shop.domain.cart.dto.CartDto;
+import com.example.shop.domain.cart.service.CartService;
+import com.example.shop.domain.member.entity.Member;
+import com.example.shop.domain.member.repository.MemberRepository;
+import com.example.shop.domain.member.service.MemberService;
+import com.example.shop.domain.order.entity.Order;
+import com.example.shop.domain.order.service.OrderService;
+import com.example.shop.domain.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.UUID;
+
+import static com.example.shop.support.TestFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 화면 요청 한 번(필터, 뷰 렌더링 포함)에 실행된 SQL 문 수가 핸들러의 @SqlBudget 이하인지 검증한다.
+ * 요청 필터가 여는 범위는 테스트가 연 범위 안에 중첩되므로 바깥 범위에서 전체 수를 읽는다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+class SqlBudgetTest {
+
+    private static final int LOGGED_STATEMENTS = 10;
+    private static final String ORDER_COMPLETE = "/order/complete/*";
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    @Autowired
+    private MockMvc mockMvc;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private MemberRepository memberRepository;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private CartService cartService;
+    @Autowired
+    private OrderService orderService;
+
+    private CustomUserDetails customer;
+    private CustomUserDetails admin;
+    private Long productId;
+    private Long orderId;
+
+    @BeforeEach
+    void setUp() {
+        Long memberId = newMember(memberService);
+        customer = principal(memberRepository.findById(memberId).orElseThrow());
+        admin = principal(memberRepository.findByEmail("admin@shop.com").orElseThrow());
+
+        productId = newProduct(productService, 1000);
+        Long otherProductId = newProduct(productService, 1000);
+        for (int i = 0; i < 12; i++) {
+            orderId = orderService.createDirectOrder(memberId, directOrder(i % 2 == 0 ? productId : otherProductId, 1)).getId();
+        }
+        cartService.addItem(memberId, new CartDto.AddRequest(productId, 1));
+        cartService.addItem(memberId, new CartDto.AddRequest(otherProductId, 2));
+    }
+
+    @Test
+    void 주문내역은_SQL_4개_이하() throws Exception {
+        assertThat(statements(get("/order/history").with(user(customer)))).isLessThanOrEqualTo(4);
+        assertWithinBudget(get("/order/history").param("page", "1").with(user(customer)));
+        assertWithinBudget(get("/order/history").param("cursor", "").with(user(customer)));
+    }
+
+    @Test
+    void 주문서와_주문_생성() throws Exception {
+        assertWithinBudget(get("/order/checkout").with(user(customer)));
+        // 주문 실패도 리다이렉트(302)이고 SQL이 덜 실행되므로 주문 완료 화면으로 가는지까지 확인한다
+        assertWithinBudget(ORDER_COMPLETE, post("/order/checkout").with(user(customer)).with(csrf())
+                .param("receiverName", "테스트")
+                .param("receiverPhone", "010-0000-1234")
+                .param("address", "서울시 중구 세종대로 110")
+                .param("paymentMethod", "CREDIT_CARD")
+                .param("requestKey", UUID.randomUUID().toString()));
+        assertWithinBudget(ORDER_COMPLETE, post("/order/direct").with(user(customer)).with(csrf())
+                .param("productId", productId.toString())
+                .param("quantity", "1")
+                .param("receiverName", "테스트")
+                .param("receiverPhone", "010-0000-1234")
+                .param("address", "서울시 중구 세종대로 110")
+                .param("paymentMethod", "CREDIT_CARD")
+                .param("requestKey", UUID.randomUUID().toString()));
+        assertWithinBudget(get("/order/{orderId}", orderId).with(user(customer)));
+    }
+
+    @Test
+    void 상품과_장바구니() throws Exception {
+        assertWithinBudget(get("/").with(user(customer)));
+        assertWithinBudget(get("/products").with(user(customer)));
+        assertWithinBudget(get("/products").param("category", "테스트").with(user(customer)));
+        assertWithinBudget(get("/products/{id}", productId).with(user(customer)));
+        assertWithinBudget(get("/cart").with(user(customer)));
+        assertWithinBudget(post("/cart/add").with(user(customer)).with(csrf())
+                .param("productId", productId.toString())
+                .param("quantity", "1"));
+    }
+
+    @Test
+    void 관리자_목록() throws Exception {
+        assertWithinBudget(get("/admin").with(user(admin)));
+        assertWithinBudget(get("/admin/members").with(user(admin)));
+        assertWithinBudget(get("/admin/products").with(user(admin)));
+        assertWithinBudget(get("/admin/orders").with(user(admin)));
+        assertWithinBudget(get("/admin/orders").param("cursor", "").with(user(admin)));
+        assertWithinBudget(get("/admin/orders").param("status", Order.OrderStatus.PAID.name()).with(user(admin)));
+        assertWithinBudget(get("/admin/orders/{id}", orderId).with(user(admin)));
+        assertWithinBudget(get("/admin/orders/export").with(user(admin)));
+        assertWithinBudget(get("/admin/deliveries").with(user(admin)));
+        assertWithinBudget(get("/admin/deliveries").param("cursor", "").with(user(admin)));
+    }
+
+    private void assertWithinBudget(MockHttpServletRequestBuilder request) throws Exception {
+        assertWithinBudget(null, request);
+    }
+
+    /** 처리 실패(오류 플래시 메시지)는 실패로 보고, redirectPattern이 있으면 성공했을 때의 리다이렉트인지 확인한다 */
+    private void assertWithinBudget(String redirectPattern, MockHttpServletRequestBuilder request) throws Exception {
+        try (SqlScope scope = SqlScope.open("SqlBudgetTest", Integer.MAX_VALUE)) {
+            MvcResult result = mockMvc.perform(request).andReturn();
+            String description = result.getRequest().getMethod() + " " + result.getRequest().getRequestURI();
+
+            assertThat(result.getResponse().getStatus()).as(description).isLessThan(400);
+            assertThat(result.getFlashMap().get("error")).as(description + " error").isNull();
+            if (redirectPattern != null) {
+                assertThat(result.getResponse().getRedirectedUrl()).as(description + " redirect")
+                        .matches(url -> url != null && PATH_MATCHER.match(redirectPattern, url), redirectPattern);
+            }
+            assertThat(result.getHandler()).as(description).isInstanceOf(HandlerMethod.class);
+            SqlBudget budget = ((HandlerMethod) result.getHandler()).getMethodAnnotation(SqlBudget.class);
+            assertThat(budget).as(description + " @SqlBudget").isNotNull();
+            assertThat(scope.getStatementCount())
+                    .as("%s SQL %s", description, scope.top(LOGGED_STATEMENTS))
+                    .isLessThanOrEqualTo(budget.value());
+        }
+    }
+
+    private int statements(MockHttpServletRequestBuilder request) throws Exception {
+        try (SqlScope scope = SqlScope.open("SqlBudgetTest", Integer.MAX_VALUE)) {
+            MvcResult result = mockMvc.perform(request).andReturn();
+            assertThat(result.getResponse().getStatus()).isLessThan(400);
+            return scope.getStatementCount();
+        }
+    }
+
+    private static CustomUserDetails principal(Member member) {
+        return new CustomUserDetails(member.getId(), member.getEmail(), member.getName(), member.getRole(), null);
+    }
+}
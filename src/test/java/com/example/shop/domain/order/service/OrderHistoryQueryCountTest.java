@@ -0,0 +1,114 @@
+package com.example.shop.domain.order.service;
+
+import com.example.shop.config.sql.SqlScope;
+import com.example.shop.domain.cart.dto.CartDto;
+import com.example.shop.domain.cart.service.CartService;
+import com.example.shop.domain.member.service.MemberService;
+import com.example.shop.domain.order.dto.OrderDto;
+import com.example.shop.domain.product.service.ProductService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.List;
+
+import static com.example.shop.support.TestFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 주문내역은 ID 페이지 + 상세 일괄 조회이므로 한 페이지의 주문 수와 무관하게 SQL 수가 일정하다 */
+@SpringBootTest
+class OrderHistoryQueryCountTest {
+
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private CartService cartService;
+
+    private Long singleOrderMember;
+    private Long fullPageMember;
+
+    @BeforeEach
+    void setUp() {
+        List<Long> products = List.of(
+                newProduct(productService, 1000), newProduct(productService, 1000), newProduct(productService, 1000));
+
+        singleOrderMember = newMember(memberService);
+        orderService.createDirectOrder(singleOrderMember, directOrder(products.get(0), 1));
+
+        // 주문상품이 여러 개인 장바구니 주문 + 바로 주문으로 다음 페이지가 있을 만큼 채운다
+        fullPageMember = newMember(memberService);
+        for (Long productId : products) {
+            cartService.addItem(fullPageMember, new CartDto.AddRequest(productId, 2));
+        }
+        orderService.createFromCart(fullPageMember, cartOrder());
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            orderService.createDirectOrder(fullPageMember, directOrder(products.get(i % products.size()), 1));
+        }
+    }
+
+    @Test
+    void 키셋_페이지는_주문_수와_무관하게_SQL_2개() {
+        OrderDto.CursorPage<OrderDto.Response> single;
+        int singleCount;
+        try (SqlScope scope = SqlScope.open("주문 내역 1건", Integer.MAX_VALUE)) {
+            single = orderService.findHistoryByMember(singleOrderMember, null, PAGE_SIZE);
+            singleCount = scope.getStatementCount();
+        }
+
+        OrderDto.CursorPage<OrderDto.Response> full;
+        int fullCount;
+        try (SqlScope scope = SqlScope.open("주문 내역 10건", Integer.MAX_VALUE)) {
+            full = orderService.findHistoryByMember(fullPageMember, null, PAGE_SIZE);
+            fullCount = scope.getStatementCount();
+        }
+
+        assertThat(single.getContent()).hasSize(1);
+        assertThat(full.getContent()).hasSize(PAGE_SIZE);
+        assertThat(full.getNextCursor()).isNotNull();
+        assertThat(singleCount).isEqualTo(2);
+        assertThat(fullCount).isEqualTo(singleCount);
+
+        // 다음 페이지도 같은 수
+        try (SqlScope scope = SqlScope.open("주문 내역 다음 페이지", Integer.MAX_VALUE)) {
+            OrderDto.CursorPage<OrderDto.Response> next = orderService.findHistoryByMember(
+                    fullPageMember, OrderDto.Cursor.parse(full.getNextCursor()), PAGE_SIZE);
+            assertThat(next.getContent()).hasSize(1);
+            assertThat(next.getContent().get(0).getItems()).hasSize(3);
+            assertThat(scope.getStatementCount()).isEqualTo(2);
+        }
+    }
+
+    @Test
+    void 오프셋_페이지는_주문_수와_무관하게_SQL_3개_이하() {
+        PageRequest pageable = PageRequest.of(0, PAGE_SIZE, Sort.by(Sort.Direction.DESC, "orderedAt"));
+
+        int singleCount;
+        try (SqlScope scope = SqlScope.open("주문 내역 1건", Integer.MAX_VALUE)) {
+            Page<OrderDto.Response> single = orderService.findHistoryByMember(singleOrderMember, pageable);
+            assertThat(single.getContent()).hasSize(1);
+            singleCount = scope.getStatementCount();
+        }
+
+        int fullCount;
+        try (SqlScope scope = SqlScope.open("주문 내역 10건", Integer.MAX_VALUE)) {
+            Page<OrderDto.Response> full = orderService.findHistoryByMember(fullPageMember, pageable);
+            assertThat(full.getContent()).hasSize(PAGE_SIZE);
+            assertThat(full.getTotalElements()).isEqualTo(PAGE_SIZE + 1);
+            fullCount = scope.getStatementCount();
+        }
+
+        // 첫 페이지가 다 차지 않으면 Spring Data가 COUNT를 생략한다
+        assertThat(fullCount).isEqualTo(3);
+        assertThat(singleCount).isLessThanOrEqualTo(fullCount);
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.shop.domain.order.service;
+
+import com.example.shop.domain.member.service.MemberService;
+import com.example.shop.domain.order.dto.OrderDto;
+import com.example.shop.domain.order.repository.OrderRepository;
+import com.example.shop.domain.product.repository.ProductRepository;
+import com.example.shop.domain.product.service.ProductService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.function.IntFunction;
+
+import static com.example.shop.support.TestFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/** 같은 요청 키로 동시에 들어온 주문 요청은 주문 하나, 재고 차감 한 번으로 끝난다 */
+@SpringBootTest
+class OrderIdempotencyServiceTest {
+
+    private static final int REQUESTS = 50;
+    private static final int STOCK = 1000;
+    private static final int QUANTITY = 2;
+
+    @Autowired
+    private OrderIdempotencyService orderIdempotencyService;
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private OrderRepository orderRepository;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void 같은_키_50건_동시_요청은_주문_하나로_처리된다() throws Exception {
+        Long memberId = newMember(memberService);
+        Long productId = newProduct(productService, STOCK);
+        OrderDto.DirectOrderRequest request = directOrder(productId, QUANTITY);
+
+        Set<Long> orderIds = submitConcurrently(i -> orderIdempotencyService.execute(memberId, request.getRequestKey(),
+                () -> orderService.createDirectOrder(memberId, request).getId()));
+
+        assertOneOrder(memberId, productId, orderIds);
+    }
+
+    /** 서버 두 대: 메모리의 진행 중/완료 키를 공유하지 않으므로 orders(member_id, request_key) 유니크 키로 걸러야 한다 */
+    @Test
+    void 서버가_달라도_같은_키는_주문_하나로_처리된다() throws Exception {
+        Long memberId = newMember(memberService);
+        Long productId = newProduct(productService, STOCK);
+        OrderDto.DirectOrderRequest request = directOrder(productId, QUANTITY);
+        List<OrderIdempotencyService> servers = List.of(
+                new OrderIdempotencyService(orderRepository, 100, Duration.ofMinutes(1)),
+                new OrderIdempotencyService(orderRepository, 100, Duration.ofMinutes(1)));
+
+        Set<Long> orderIds = submitConcurrently(i -> servers.get(i % servers.size()).execute(memberId, request.getRequestKey(),
+                () -> orderService.createDirectOrder(memberId, request).getId()));
+
+        assertOneOrder(memberId, productId, orderIds);
+    }
+
+    @Test
+    void 키가_다르면_각각_주문된다() {
+        Long memberId = newMember(memberService);
+        Long productId = newProduct(productService, STOCK);
+
+        for (int i = 0; i < 3; i++) {
+            OrderDto.DirectOrderRequest request = directOrder(productId, QUANTITY);
+            orderIdempotencyService.execute(memberId, request.getRequestKey(),
+                    () -> orderService.createDirectOrder(memberId, request).getId());
+        }
+
+        assertThat(orderRepository.findFirstIdsByMemberId(memberId, Pageable.unpaged())).hasSize(3);
+        assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isEqualTo(STOCK - 3 * QUANTITY);
+    }
+
+    /** 모든 스레드를 래치로 동시에 출발시키고 돌려받은 주문 ID를 모은다 */
+    private Set<Long> submitConcurrently(IntFunction<Long> call) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(REQUESTS);
+        try {
+            CountDownLatch ready = new CountDownLatch(REQUESTS);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Long>> futures = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    return call.apply(index);
+                }));
+            }
+            ready.await();
+            start.countDown();
+
+            Set<Long> orderIds = new HashSet<>();
+            for (Future<Long> future : futures) {
+                orderIds.add(future.get(30, TimeUnit.SECONDS));
+            }
+            return orderIds;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void assertOneOrder(Long memberId, Long productId, Set<Long> orderIds) {
+        assertThat(orderIds).hasSize(1);
+        assertThat(orderRepository.findFirstIdsByMemberId(memberId, Pageable.unpaged())).containsExactlyElementsOf(orderIds);
+        assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isEqualTo(STOCK - QUANTITY);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.shop.domain.order.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OrderTransactionRetryTest {
+
+    private final OrderTransactionRetry retry = new OrderTransactionRetry(3, Duration.ofMillis(1));
+
+    @Test
+    void 일시적_오류는_트랜잭션째_재시도() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        Long orderId = retry.execute(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new CannotAcquireLockException("lock timeout");
+            }
+            return 1L;
+        });
+
+        assertThat(orderId).isEqualTo(1L);
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void 재시도_횟수를_넘으면_마지막_오류를_던진다() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retry.run(() -> {
+            attempts.incrementAndGet();
+            throw new CannotAcquireLockException("lock timeout");
+        })).isInstanceOf(CannotAcquireLockException.class);
+        assertThat(attempts).hasValue(3);
+    }
+
+    @Test
+    void 일시적이지_않은_오류는_재시도하지_않는다() {
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThatThrownBy(() -> retry.run(() -> {
+            attempts.incrementAndGet();
+            throw new DataIntegrityViolationException("duplicate");
+        })).isInstanceOf(DataIntegrityViolationException.class);
+        assertThat(attempts).hasValue(1);
+    }
+
+    @Test
+    void 트랜잭션_안에서는_호출할_수_없다() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        try {
+            assertThatThrownBy(() -> retry.execute(() -> 1L)).isInstanceOf(IllegalStateException.class);
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.shop.domain.order.service;
+
+import com.example.shop.domain.cart.dto.CartDto;
+import com.example.shop.domain.cart.service.CartService;
+import com.example.shop.domain.member.service.MemberService;
+import com.example.shop.domain.product.repository.ProductRepository;
+import com.example.shop.domain.product.service.ProductService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static com.example.shop.support.TestFixtures.*;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 상품이 겹치는 장바구니 주문을 동시에 실행해도 교착 상태나 잠금 대기 초과 없이 모두 성공한다.
+ * 장바구니마다 같은 상품을 다른 순서로 담으므로, 재고 차감이 상품 ID 순이 아니면 서로의 행 잠금을 기다리게 된다.
+ * 재시도 없이 OrderService를 직접 호출해 잠금 오류가 그대로 드러나게 하고, 주문 응답 시간 백분위를 남긴다.
+ */
+@Slf4j
+@SpringBootTest
+class OverlappingCartCheckoutStressTest {
+
+    private static final int PRODUCTS = 8;
+    private static final int CARTS = 100;
+    private static final int THREADS = 50;
+    private static final int STOCK = 10_000;
+
+    @Autowired
+    private OrderService orderService;
+    @Autowired
+    private CartService cartService;
+    @Autowired
+    private MemberService memberService;
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void 겹치는_장바구니_동시_주문은_교착_없이_모두_성공한다() throws Exception {
+        List<Long> productIds = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            productIds.add(newProduct(productService, STOCK));
+        }
+        Random random = new Random(42);
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < CARTS; i++) {
+            Long memberId = newMember(memberService);
+            List<Long> shuffled = new ArrayList<>(productIds);
+            Collections.shuffle(shuffled, random);
+            for (Long productId : shuffled) {
+                cartService.addItem(memberId, new CartDto.AddRequest(productId, 1));
+            }
+            memberIds.add(memberId);
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        List<Long> latencies = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+        try {
+            CountDownLatch ready = new CountDownLatch(CARTS);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Long>> futures = new ArrayList<>();
+            for (Long memberId : memberIds) {
+                futures.add(executor.submit(() -> {
+                    ready.countDown();
+                    start.await();
+                    long begin = System.nanoTime();
+                    orderService.createFromCart(memberId, cartOrder());
+                    return System.nanoTime() - begin;
+                }));
+            }
+            // 스레드보다 장바구니가 많으므로 앞쪽 THREADS개가 대기하면 출발시킨다
+            while (ready.getCount() > CARTS - THREADS) {
+                Thread.sleep(1);
+            }
+            start.countDown();
+
+            for (Future<Long> future : futures) {
+                try {
+                    latencies.add(future.get(60, TimeUnit.SECONDS));
+                } catch (ExecutionException e) {
+                    failures.add(e.getCause());
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Collections.sort(latencies);
+        log.info("겹치는 장바구니 주문 {}건 (스레드 {}): p50 {} ms, p99 {} ms, max {} ms, 실패 {}건",
+                CARTS, THREADS, millis(latencies, 0.50), millis(latencies, 0.99), millis(latencies, 1.0), failures.size());
+
+        assertThat(failures).isEmpty();
+        for (Long productId : productIds) {
+            assertThat(productRepository.findById(productId).orElseThrow().getStockQuantity()).isEqualTo(STOCK - CARTS);
+        }
+    }
+
+    private static String millis(List<Long> sorted, double percentile) {
+        if (sorted.isEmpty()) {
+            return "-";
+        }
+        int index = Math.min(sorted.size() - 1, (int) Math.ceil(percentile * sorted.size()) - 1);
+        return String.format("%.1f", sorted.get(Math.max(0, index)) / 1e6);
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.shop.domain.order.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TimeBasedOrderNumberGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int TOTAL = 10_000_000;
+
+    @Test
+    void 천만건_동시_생성시_중복이_없다() throws Exception {
+        TimeBasedOrderNumberGenerator generator = new TimeBasedOrderNumberGenerator(7);
+        int perThread = TOTAL / THREADS;
+        // 노드ID(2자리)를 빼면 18자리라 long에 담긴다 (문자열 천만 개를 보관하지 않도록)
+        long[] values = new long[TOTAL];
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            Future<?>[] futures = new Future<?>[THREADS];
+            for (int t = 0; t < THREADS; t++) {
+                int offset = t * perThread;
+                futures[t] = executor.submit(() -> {
+                    start.await();
+                    long previous = 0;
+                    for (int i = 0; i < perThread; i++) {
+                        String number = generator.generate();
+                        assertThat(number).hasSize(20);
+                        assertThat(number.substring(15, 17)).isEqualTo("07");
+                        long value = Long.parseLong(number.substring(0, 15) + number.substring(17));
+                        // 한 스레드 안에서는 단조 증가
+                        assertThat(value).isGreaterThan(previous);
+                        previous = value;
+                        values[offset + i] = value;
+                    }
+                    return null;
+                });
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(2, TimeUnit.MINUTES);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        Arrays.sort(values);
+        for (int i = 1; i < values.length; i++) {
+            if (values[i] == values[i - 1]) {
+                throw new AssertionError("중복 주문번호: " + values[i]);
+            }
+        }
+    }
+
+    @Test
+    void 같은_밀리초에_천건을_넘으면_다음_밀리초로_넘어간다() {
+        Clock fixed = Clock.fixed(Instant.parse("2026-03-01T00:00:00Z"), ZoneId.of("UTC"));
+        TimeBasedOrderNumberGenerator generator = new TimeBasedOrderNumberGenerator(1, fixed);
+
+        String first = generator.generate();
+        String last = null;
+        for (int i = 0; i < 1000; i++) {
+            last = generator.generate();
+        }
+
+        assertThat(first).isEqualTo("26030109000000001000");
+        assertThat(last).isEqualTo("26030109000000101000");
+    }
+
+    @Test
+    void 서버_시간대와_무관하게_서울_시각으로_표기한다() {
+        // 2026-11-01 미국 동부 서머타임 해제: 01:30 EDT와 한 시간 뒤 01:30 EST가 같은 지역 시각
+        ZoneId newYork = ZoneId.of("America/New_York");
+        Instant beforeFallBack = Instant.parse("2026-11-01T05:30:00Z");
+        Instant afterFallBack = Instant.parse("2026-11-01T06:30:00Z");
+
+        String before = new TimeBasedOrderNumberGenerator(0, Clock.fixed(beforeFallBack, newYork)).generate();
+        String after = new TimeBasedOrderNumberGenerator(0, Clock.fixed(afterFallBack, newYork)).generate();
+
+        assertThat(before).startsWith("261101143000000");
+        assertThat(after).startsWith("261101153000000");
+    }
+
+    @Test
+    void 노드ID는_0에서_99_사이여야_한다() {
+        assertThatThrownBy(() -> new TimeBasedOrderNumberGenerator(100))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
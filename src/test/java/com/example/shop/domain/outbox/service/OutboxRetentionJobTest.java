@@ -0,0 +1,57 @@
+package com.example.shop.domain.outbox.service;
+
+import com.example.shop.domain.outbox.entity.OutboxEvent;
+import com.example.shop.domain.outbox.repository.OutboxEventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class OutboxRetentionJobTest {
+
+    @Autowired
+    private OutboxEventRepository outboxEventRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void 보관_기간이_지난_DONE만_배치로_삭제() {
+        LocalDateTime now = LocalDateTime.now();
+        // 다른 테스트가 남긴 이벤트와 섞이지 않도록 충분히 과거를 기준으로 삼는다
+        LocalDateTime cutoff = now.minusYears(10);
+
+        List<Long> expired = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            expired.add(save(OutboxEvent.Status.DONE, cutoff.minusDays(1)));
+        }
+        Long recent = save(OutboxEvent.Status.DONE, cutoff.plusDays(1));
+        Long pending = save(OutboxEvent.Status.PENDING, null);
+        Long dead = save(OutboxEvent.Status.DEAD, null);
+
+        OutboxRetentionJob job = new OutboxRetentionJob(outboxEventRepository, transactionManager, Duration.ofDays(7), 2);
+        long deleted = job.purgeProcessedBefore(cutoff);
+
+        assertThat(deleted).isEqualTo(5);
+        assertThat(outboxEventRepository.findAllById(expired)).isEmpty();
+        assertThat(outboxEventRepository.findAllById(List.of(recent, pending, dead))).hasSize(3);
+    }
+
+    private Long save(OutboxEvent.Status status, LocalDateTime processedAt) {
+        return outboxEventRepository.save(OutboxEvent.builder()
+                .eventType(OutboxEvent.EventType.ORDER_CREATED)
+                .aggregateId(0L)
+                .status(status)
+                // 워커가 집어 가지 않도록 재시도 시각을 미래로
+                .nextAttemptAt(LocalDateTime.now().plusYears(1))
+                .processedAt(processedAt)
+                .build()).getId();
+    }
+}
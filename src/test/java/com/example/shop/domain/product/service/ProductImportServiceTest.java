@@ -0,0 +1,57 @@
+package com.example.shop.domain.product.service;
+
+import com.example.shop.domain.product.dto.ProductDto;
+import com.example.shop.domain.product.event.ProductsImportedEvent;
+import com.example.shop.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@RecordApplicationEvents
+class ProductImportServiceTest {
+
+    @Autowired
+    private ProductImportService productImportService;
+    @Autowired
+    private ProductRepository productRepository;
+    @Autowired
+    private ApplicationEvents events;
+
+    @Test
+    void 읽기_실패는_읽은_행까지_반영한_부분_결과와_갱신_이벤트() {
+        String prefix = "IMPORT-" + UUID.randomUUID() + "-";
+        String csv = "sku,name,price,stock_quantity\n"
+                + prefix + "1,가져오기 상품 1,1000,10\n"
+                + prefix + "2,가져오기 상품 2,2000,20\n";
+        // 두 행을 읽은 뒤 업로드가 끊긴 요청 본문
+        InputStream aborted = new SequenceInputStream(
+                new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)),
+                new InputStream() {
+                    @Override
+                    public int read() throws IOException {
+                        throw new IOException("연결이 끊어졌습니다");
+                    }
+                });
+
+        ProductDto.ImportResult result = productImportService.importProducts(aborted, ProductImportService.Format.CSV);
+
+        assertThat(result.getInserted()).isEqualTo(2);
+        assertThat(result.getErrors()).singleElement().asString()
+                .startsWith("3행 이후:").contains("연결이 끊어졌습니다");
+        assertThat(productRepository.findBySkuIn(List.of(prefix + "1", prefix + "2"))).hasSize(2);
+        assertThat(events.stream(ProductsImportedEvent.class)).hasSize(1);
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.shop.domain.product.service;
+
+import com.example.shop.domain.product.dto.ProductDto;
+import com.example.shop.domain.product.entity.Product;
+import com.example.shop.domain.product.repository.ProductRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class ProductSearchIndexTest {
+
+    @Autowired
+    private ProductService productService;
+    @Autowired
+    private ProductSearchIndex productSearchIndex;
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Test
+    void 색인과_DB_대체_조회가_같은_결과() throws InterruptedException {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        Long upperName = create("ABC셔츠" + tag, "면 소재");
+        Long descriptionOnly = create("기본 티", "부드러운 XYZ" + tag + " 원단 휑뛣");
+        // 설명의 검색 길이 뒤에만 있는 키워드는 어느 쪽에서도 찾지 않는다
+        create("긴 설명", "가".repeat(productSearchIndex.getDescriptionLength()) + "꼬리" + tag);
+        rebuild();
+
+        assertSameResults("abc셔츠" + tag, List.of(upperName));
+        assertSameResults("xyz" + tag, List.of(descriptionOnly));
+        assertSameResults("꼬리" + tag, List.of());
+        // 2-gram 하나인 키워드는 DB 확인 없이 포스팅만으로 판단
+        assertSameResults("휑뛣", List.of(descriptionOnly));
+        // LIKE 와일드카드도 글자 그대로 비교
+        assertSameResults("a_c셔츠" + tag, List.of());
+    }
+
+    @Test
+    void 상품_변경은_포스팅에_바로_반영() throws InterruptedException {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        rebuild();
+        List<Long> ids = List.of(create("변경 전 " + tag, null), create("변경 전 " + tag, null), create("변경 전 " + tag, null));
+
+        productService.delete(ids.get(1));
+
+        assertThat(indexSearch("변경 전 " + tag)).containsExactlyInAnyOrder(ids.get(0), ids.get(2));
+    }
+
+    @Test
+    void 설명을_바꾸면_예전_설명으로는_찾지_않음() throws InterruptedException {
+        String tag = UUID.randomUUID().toString().substring(0, 8);
+        rebuild();
+        Long id = create("설명 변경", "예전 설명 " + tag + " 뷁똠");
+
+        productService.update(id, ProductDto.UpdateRequest.builder()
+                .name("설명 변경")
+                .description("새 설명 " + tag)
+                .price(10000)
+                .stockQuantity(10)
+                .category("테스트")
+                .isActive(true)
+                .build());
+
+        assertThat(indexSearch("예전 설명 " + tag)).isEmpty();
+        assertThat(indexSearch("뷁똠")).doesNotContain(id);
+        assertThat(indexSearch("새 설명 " + tag)).containsExactly(id);
+    }
+
+    /** 시작 시(또는 다른 테스트의 일괄 등록 후) 예약된 재구성이 끝난 뒤에 다시 구성한다 */
+    private void rebuild() throws InterruptedException {
+        productSearchIndex.rebuild();
+        while (!productSearchIndex.isReady()) {
+            Thread.sleep(10);
+        }
+    }
+
+    private Long create(String name, String description) {
+        return productService.create(ProductDto.CreateRequest.builder()
+                .name(name)
+                .description(description)
+                .price(10000)
+                .stockQuantity(10)
+                .category("테스트")
+                .build()).getId();
+    }
+
+    private void assertSameResults(String keyword, List<Long> expected) {
+        List<Long> fallback = productRepository.searchProducts(ProductRepository.escapeLike(keyword),
+                        productSearchIndex.getDescriptionLength(), null, null, null, Pageable.unpaged())
+                .map(Product::getId).getContent();
+
+        assertThat(indexSearch(keyword)).as("색인: " + keyword).containsExactlyInAnyOrderElementsOf(expected);
+        assertThat(fallback).as("DB 대체 조회: " + keyword).containsExactlyInAnyOrderElementsOf(expected);
+    }
+
+    private List<Long> indexSearch(String keyword) {
+        return productSearchIndex.search(ProductDto.SearchCondition.builder().keyword(keyword).build(),
+                PageRequest.of(0, 100)).getContent();
+    }
+}
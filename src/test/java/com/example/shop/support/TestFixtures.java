@@ -0,0 +1,61 @@
+package com.example.shop.support;
+
+import com.example.shop.domain.member.dto.MemberDto;
+import com.example.shop.domain.member.service.MemberService;
+import com.example.shop.domain.order.dto.OrderDto;
+import com.example.shop.domain.product.dto.ProductDto;
+import com.example.shop.domain.product.service.ProductService;
+
+import java.util.UUID;
+
+/**
+ * 통합 테스트용 회원/상품/주문 요청.
+ * 테스트 컨텍스트(인메모리 DB)는 테스트 클래스끼리 공유되므로 테스트마다 새 회원과 상품을 만들어 서로 섞이지 않게 한다.
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    /** 장바구니가 있는 새 회원 */
+    public static Long newMember(MemberService memberService) {
+        return memberService.register(MemberDto.RegisterRequest.builder()
+                .email("test-" + UUID.randomUUID() + "@example.com")
+                .password("1234")
+                .name("테스트")
+                .phone("010-0000-1234")
+                .address("서울시 중구 세종대로 110")
+                .build()).getId();
+    }
+
+    public static Long newProduct(ProductService productService, int stockQuantity) {
+        return productService.create(ProductDto.CreateRequest.builder()
+                .name("테스트 상품 " + UUID.randomUUID())
+                .price(10000)
+                .stockQuantity(stockQuantity)
+                .category("테스트")
+                .build()).getId();
+    }
+
+    public static OrderDto.DirectOrderRequest directOrder(Long productId, int quantity) {
+        return OrderDto.DirectOrderRequest.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .receiverName("테스트")
+                .receiverPhone("010-0000-1234")
+                .address("서울시 중구 세종대로 110")
+                .paymentMethod("CREDIT_CARD")
+                .requestKey(UUID.randomUUID().toString())
+                .build();
+    }
+
+    public static OrderDto.CreateRequest cartOrder() {
+        return OrderDto.CreateRequest.builder()
+                .receiverName("테스트")
+                .receiverPhone("010-0000-1234")
+                .address("서울시 중구 세종대로 110")
+                .paymentMethod("CREDIT_CARD")
+                .requestKey(UUID.randomUUID().toString())
+                .build();
+    }
+}